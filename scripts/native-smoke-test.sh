@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# 네이티브 실행 파일 스모크 테스트 (H2 인메모리 DB)
+# 회원가입 → 로그인 → 게시글 작성/조회 → 댓글 작성/조회 흐름을 확인
+# 사용법: ./gradlew nativeCompile && scripts/native-smoke-test.sh
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+BINARY="${BINARY:-$ROOT/build/native/nativeCompile/first}"
+PORT="${PORT:-18081}"
+BASE="http://localhost:$PORT"
+WORK="$(mktemp -d)"
+COOKIES="$WORK/cookies.txt"
+
+if [[ ! -x "$BINARY" ]]; then
+    echo "네이티브 실행 파일이 없습니다: $BINARY (./gradlew nativeCompile 먼저 실행)" >&2
+    exit 1
+fi
+
+start=$(date +%s%N)
+"$BINARY" --spring.profiles.active=h2 --server.port="$PORT" > "$WORK/app.log" 2>&1 &
+PID=$!
+trap 'kill $PID 2>/dev/null || true; rm -rf "$WORK"' EXIT
+
+fail() {
+    echo "실패: $1" >&2
+    tail -n 50 "$WORK/app.log" >&2
+    exit 1
+}
+
+# 시작 완료는 liveness 로 확인 (전체 health 는 외부 의존성 상태에 따라 DOWN 일 수 있음)
+until curl -sf -o /dev/null "$BASE/actuator/health/liveness"; do
+    kill -0 "$PID" 2>/dev/null || fail "애플리케이션이 시작되지 못했습니다."
+    sleep 0.02
+done
+echo "시작 완료: $(( ($(date +%s%N) - start) / 1000000 ))ms"
+
+# 회원가입, 로그인
+curl -sf -o /dev/null -X POST "$BASE/users/register" \
+    --data-urlencode "username=smoke" --data-urlencode "email=smoke@example.com" \
+    --data-urlencode "nickname=스모크" --data-urlencode "password=password123" \
+    --data-urlencode "passwordConfirm=password123" || fail "회원가입"
+curl -s -o /dev/null -c "$COOKIES" -X POST "$BASE/login" \
+    --data-urlencode "username=smoke" --data-urlencode "password=password123" || fail "로그인"
+
+# 게시글 작성 → /articles/{id} 로 리다이렉트
+LOCATION=$(curl -s -o /dev/null -b "$COOKIES" -w '%{redirect_url}' -X POST "$BASE/articles" \
+    --data-urlencode "title=네이티브 스모크 테스트" --data-urlencode "content=네이티브 이미지에서 작성한 글")
+ARTICLE_ID="${LOCATION##*/articles/}"
+[[ "$ARTICLE_ID" =~ ^[0-9]+$ ]] || fail "게시글 작성 (redirect: $LOCATION)"
+
+curl -sf -b "$COOKIES" "$BASE/articles/$ARTICLE_ID" | grep -q "네이티브 이미지에서 작성한 글" || fail "게시글 상세"
+curl -sf -b "$COOKIES" "$BASE/articles" | grep -q "네이티브 스모크 테스트" || fail "게시글 목록"
+
+# 댓글 작성/조회 (JSON)
+curl -sf -o /dev/null -b "$COOKIES" -X POST "$BASE/api/articles/$ARTICLE_ID/comments" \
+    -H "Content-Type: application/json" \
+    -d "{\"articleId\": $ARTICLE_ID, \"nickname\": \"스모크\", \"body\": \"네이티브 댓글\"}" || fail "댓글 작성"
+curl -sf -b "$COOKIES" "$BASE/api/articles/$ARTICLE_ID/comments" | grep -q "네이티브 댓글" || fail "댓글 조회"
+
+echo "스모크 테스트 통과 (RSS: $(ps -o rss= -p "$PID" | tr -d ' ')KB)"
@@ -0,0 +1,23 @@
+#!/usr/bin/env bash
+# 빠른 시작 모드로 실행 (Spring AOT + AppCDS)
+# 먼저 ./gradlew cdsArchive 로 build/fast 와 application.jsa 를 만들어야 함
+# 사용법: scripts/run-fast.sh [애플리케이션 인자...]
+set -euo pipefail
+
+FAST_DIR="$(cd "$(dirname "$0")/.." && pwd)/build/fast"
+JAR="$(ls "$FAST_DIR"/*.jar 2>/dev/null | head -n 1 || true)"
+
+if [[ -z "$JAR" ]]; then
+    echo "build/fast 에 jar 가 없습니다. ./gradlew cdsArchive 를 먼저 실행하세요." >&2
+    exit 1
+fi
+
+CDS_OPTS=()
+if [[ -f "$FAST_DIR/application.jsa" ]]; then
+    CDS_OPTS=(-XX:SharedArchiveFile="$FAST_DIR/application.jsa")
+else
+    echo "application.jsa 가 없어 CDS 없이 실행합니다." >&2
+fi
+
+cd "$FAST_DIR"
+exec java "${CDS_OPTS[@]}" -Dspring.aot.enabled=true ${JAVA_OPTS:-} -jar "$JAR" "$@"
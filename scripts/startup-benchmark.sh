@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# 시작 시간 비교: 일반 실행(bootJar) vs 빠른 시작(AOT + AppCDS)
+# 프로세스 시작부터 첫 요청이 성공할 때까지의 시간(ms)을 반복 측정해서 평균을 출력
+# 사용법: scripts/startup-benchmark.sh [반복 횟수] [프로필]
+#   먼저 ./gradlew bootJar cdsArchive 실행 필요
+set -euo pipefail
+
+RUNS="${1:-5}"
+PROFILE="${2:-h2}"
+PORT="${PORT:-18080}"
+# 전체 health 는 h2 프로필에서도 R2DBC(PostgreSQL) 상태를 포함해 DOWN 이 될 수 있으므로 liveness 로 확인
+URL="http://localhost:$PORT/actuator/health/liveness"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+BOOT_JAR="$(ls "$ROOT"/build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)"
+APP_ARGS=(--spring.profiles.active="$PROFILE" --server.port="$PORT")
+
+# 첫 요청 성공까지 걸린 시간(ms) 측정
+measure() {
+    local start end pid
+    start=$(date +%s%N)
+    "$@" "${APP_ARGS[@]}" > /dev/null 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "애플리케이션이 시작되지 못했습니다: $*" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+    echo $(( (end - start) / 1000000 ))
+}
+
+run() {
+    local name="$1"; shift
+    local total=0 elapsed
+    for ((i = 1; i <= RUNS; i++)); do
+        elapsed=$(measure "$@")
+        echo "  [$name] $i회: ${elapsed}ms"
+        total=$((total + elapsed))
+    done
+    echo "$name 평균: $((total / RUNS))ms"
+}
+
+echo "시작 시간 측정 (${RUNS}회, 프로필=$PROFILE)"
+run "일반 실행" java -jar "$BOOT_JAR"
+run "AOT + CDS" "$ROOT/scripts/run-fast.sh"
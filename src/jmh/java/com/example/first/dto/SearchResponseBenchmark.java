@@ -0,0 +1,69 @@
+package com.example.first.dto;
+
+import com.example.first.config.JsonWritableHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 API 응답 직렬화 비교 (./gradlew jmh)
+ * - jackson: 기존 경로 (List<ArticleDto> 를 Spring Boot 와 같은 설정의 ObjectMapper 로 직렬화)
+ * - record: List<ArticleDto> → List<ArticleSummary> 변환 후 JsonWritableHttpMessageConverter 로 직렬화
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchResponseBenchmark {
+
+    @Param({"10", "50"})
+    private int size;
+
+    private List<ArticleDto> articles;
+    private ObjectMapper objectMapper;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        out = new ByteArrayOutputStream(64 * 1024);
+        articles = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 10, 0);
+        for (long i = 1; i <= size; i++) {
+            articles.add(new ArticleDto(i, "게시글 제목 " + i, null, 1L, "user1", "사용자" + i,
+                    now.minusHours(i), i % 3 == 0 ? now : null, i * 10, i % 7,
+                    "미리보기 본문 ".repeat(10), false, false));
+        }
+    }
+
+    @Benchmark
+    public int jackson() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, articles);
+        return out.size();
+    }
+
+    @Benchmark
+    public int record() throws IOException {
+        out.reset();
+        List<ArticleSummary> summaries = articles.stream().map(ArticleSummary::from).toList();
+        JsonWritableHttpMessageConverter.writeTo(summaries, out);
+        return out.size();
+    }
+}
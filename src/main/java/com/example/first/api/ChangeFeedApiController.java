@@ -0,0 +1,33 @@
+package com.example.first.api;
+
+import com.example.first.dto.ChangeFeedDto;
+import com.example.first.service.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class ChangeFeedApiController {
+
+    private final ChangeFeedService changeFeedService;
+
+    // 전체 변경 조회 (since 이후)
+    @GetMapping("/api/changes")
+    public ResponseEntity<ChangeFeedDto> changes(@RequestParam(defaultValue = "0") long since,
+                                                 @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(changeFeedService.changesSince(null, since, limit));
+    }
+
+    // 특정 게시글과 그 댓글의 변경 조회 (since 이후)
+    @GetMapping("/api/articles/{articleId}/changes")
+    public ResponseEntity<ChangeFeedDto> articleChanges(@PathVariable Long articleId,
+                                                        @RequestParam(defaultValue = "0") long since,
+                                                        @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(changeFeedService.changesSince(articleId, since, limit));
+    }
+}
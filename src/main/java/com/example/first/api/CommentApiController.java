@@ -1,11 +1,19 @@
 package com.example.first.api;
 
 import com.example.first.dto.CommentDto;
+import com.example.first.dto.CommentThreadDto;
+import com.example.first.dto.CommentView;
 import com.example.first.service.CommentService;
+import com.example.first.service.CommentStreamHub;
+import com.example.first.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -13,23 +21,58 @@ import java.util.List;
 public class CommentApiController {
     @Autowired
     private CommentService commentService;
+    @Autowired
+    private CommentStreamHub commentStreamHub;
+    @Autowired
+    private UserService userService;
 
     // 댓글 조회
     @GetMapping("/api/articles/{articleId}/comments")
-    public ResponseEntity<List<CommentDto>> getAllComments(@PathVariable Long articleId) {
-        // 서비스에 위임
-        List<CommentDto> dtos = commentService.comments(articleId);
+    public ResponseEntity<List<CommentView>> getAllComments(@PathVariable Long articleId) {
+        // 서비스에 위임 (읽기 전용 record 로 변환해 리플렉션 없이 직렬화)
+        List<CommentView> dtos = commentService.comments(articleId)
+                .stream()
+                .map(CommentView::from)
+                .toList();
 
         // 결과 응답
         return ResponseEntity.status(HttpStatus.OK).body(dtos);
     }
 
+    // 최상위 댓글 단위 페이지 조회 (답글 포함, 표시 순서)
+    @GetMapping("/api/articles/{articleId}/comments/threads")
+    public ResponseEntity<CommentThreadDto> threads(@PathVariable Long articleId,
+                                                    @RequestParam(required = false) Long after,
+                                                    @RequestParam(defaultValue = "20") int size,
+                                                    @RequestParam(defaultValue = "8") int depth) {
+        return ResponseEntity.status(HttpStatus.OK).body(commentService.threads(articleId, after, size, depth));
+    }
+
+    // 특정 댓글의 답글 트리 조회
+    @GetMapping("/api/comments/{id}/replies")
+    public ResponseEntity<List<CommentView>> replies(@PathVariable Long id,
+                                                     @RequestParam(defaultValue = "8") int depth) {
+        List<CommentView> replies = commentService.replies(id, depth)
+                .stream()
+                .map(CommentView::from)
+                .toList();
+        return ResponseEntity.status(HttpStatus.OK).body(replies);
+    }
+
+    // 댓글 변경 실시간 구독 (SSE: created, updated, deleted 이벤트)
+    @GetMapping(value = "/api/articles/{articleId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Long articleId) {
+        return commentStreamHub.subscribe(articleId);
+    }
+
     // 댓글 생성
     @PostMapping("/api/articles/{articleId}/comments")
     public ResponseEntity<CommentDto> create(@PathVariable Long articleId,
-                                             @RequestBody CommentDto commentDto) {
-        // 서비스에 위임
-        CommentDto createdDto = commentService.create(articleId, commentDto);
+                                             @RequestBody CommentDto commentDto,
+                                             @AuthenticationPrincipal UserDetails currentUserDetails) {
+        // 서비스에 위임 (로그인한 작성자를 댓글에 연결)
+        CommentDto createdDto = commentService.create(articleId, commentDto,
+                currentUserDetails == null ? null : userService.findByUsername(currentUserDetails.getUsername()));
 
         // 결과 응답
         return ResponseEntity.status(HttpStatus.OK).body(createdDto);
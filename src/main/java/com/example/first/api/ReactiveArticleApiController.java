@@ -0,0 +1,51 @@
+package com.example.first.api;
+
+import com.example.first.dto.ArticleDto;
+import com.example.first.dto.CommentDto;
+import com.example.first.repository.ArticleReactiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 읽기 전용 JSON API
+ * Accept: application/x-ndjson 이면 한 건씩 스트리밍, application/json 이면 배열로 응답
+ */
+@RestController
+@RequiredArgsConstructor
+public class ReactiveArticleApiController {
+
+    private static final int MAX_SEARCH_LIMIT = 1000;
+
+    private final ArticleReactiveRepository articleReactiveRepository;
+
+    // 게시글 검색
+    @GetMapping(value = "/api/reactive/articles/search",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<ArticleDto> search(@RequestParam String keyword,
+                                   @RequestParam(defaultValue = "all") String type,
+                                   @RequestParam(defaultValue = "100") int limit) {
+        return articleReactiveRepository.search(keyword, type, Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT)));
+    }
+
+    // 게시글 상세 (조회수 증가 없음)
+    @GetMapping("/api/reactive/articles/{id}")
+    public Mono<ResponseEntity<ArticleDto>> show(@PathVariable Long id) {
+        return articleReactiveRepository.findById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // 댓글 목록
+    @GetMapping(value = "/api/reactive/articles/{articleId}/comments",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<CommentDto> comments(@PathVariable Long articleId) {
+        return articleReactiveRepository.findCommentsByArticleId(articleId);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.first.api;
+
+import com.example.first.entity.User;
+import com.example.first.service.FeedService;
+import com.example.first.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class UserApiController {
+
+    private final UserService userService;
+    private final FeedService feedService;
+
+    // 회원가입 폼 실시간 중복 확인 (field: username, email, nickname)
+    @GetMapping("/api/users/availability")
+    public ResponseEntity<Map<String, Object>> availability(@RequestParam String field,
+                                                            @RequestParam String value) {
+        boolean available;
+        switch (field) {
+            case "username":
+                available = userService.isUsernameAvailable(value);
+                break;
+            case "email":
+                available = userService.isEmailAvailable(value);
+                break;
+            case "nickname":
+                available = userService.isNicknameAvailable(value);
+                break;
+            default:
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(Map.of("field", field, "available", available));
+    }
+
+    // 작성자 팔로우
+    @PostMapping("/api/users/{id}/follow")
+    public ResponseEntity<Map<String, Object>> follow(@PathVariable Long id,
+                                                      @AuthenticationPrincipal UserDetails currentUserDetails) {
+        User currentUser = userService.findByUsername(currentUserDetails.getUsername());
+        feedService.follow(currentUser, id);
+        return ResponseEntity.status(HttpStatus.OK).body(Map.of("userId", id, "following", true));
+    }
+
+    // 작성자 팔로우 취소
+    @DeleteMapping("/api/users/{id}/follow")
+    public ResponseEntity<Map<String, Object>> unfollow(@PathVariable Long id,
+                                                        @AuthenticationPrincipal UserDetails currentUserDetails) {
+        User currentUser = userService.findByUsername(currentUserDetails.getUsername());
+        feedService.unfollow(currentUser, id);
+        return ResponseEntity.status(HttpStatus.OK).body(Map.of("userId", id, "following", false));
+    }
+}
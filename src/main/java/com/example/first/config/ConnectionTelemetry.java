@@ -0,0 +1,211 @@
+package com.example.first.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hikari 커넥션 풀 지표 수집기 (HikariDataSource.setMetricsTrackerFactory 로 등록)
+ * - 기본 hikaricp.connections.* 지표(active, idle, pending, acquire, usage)는 Micrometer 수집기에 그대로 위임
+ * - 커넥션 획득/반납은 호출한 스레드에서 기록되므로 스택에서 호출한 서비스 메서드를 찾아
+ *   db.connection.acquire(대기 시간), db.connection.usage(점유 시간) 에 caller 태그로 기록
+ *   스택 탐색은 비싸므로 획득 caller-sample-rate 번 중 한 번만 하고, 찾은 호출 위치는 같은 커넥션 반납 때 재사용
+ *   (반납은 보통 획득한 스레드에서 일어나므로 스레드별 스택에 넣어 둠)
+ * - 점유 시간이 long-held-threshold 를 넘으면 db.connection.long-held 를 세고 호출 위치를 경고 로그로 남김
+ *   (표본이 아니었으면 이때만 스택 탐색)
+ *   (반납되지 않는 커넥션은 spring.datasource.hikari.leak-detection-threshold 의 스택 트레이스로 확인)
+ * - 풀 크기 조정(PoolSizeController)을 위해 풀별 구간 평균 대기/점유 시간을 누적
+ */
+@Slf4j
+public class ConnectionTelemetry implements MetricsTrackerFactory {
+
+    private static final String APP_PACKAGE = "com.example.first.";
+    private static final String UNKNOWN_CALLER = "other";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    // 표본이 아닌 획득 (스레드별 스택에는 null 을 넣을 수 없으므로 표시 값)
+    private static final String NOT_SAMPLED = "";
+    // 반납되지 않은 커넥션(누수)으로 스레드별 스택이 계속 커지지 않도록 상한
+    private static final int MAX_PENDING = 16;
+
+    private final MeterRegistry meterRegistry;
+    private final MicrometerMetricsTrackerFactory micrometerFactory;
+    private final long longHeldThresholdMs;
+    private final int callerSampleRate;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public ConnectionTelemetry(MeterRegistry meterRegistry, long longHeldThresholdMs, int callerSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.micrometerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+        this.longHeldThresholdMs = longHeldThresholdMs;
+        this.callerSampleRate = Math.max(1, callerSampleRate);
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new Tracker(poolName, micrometerFactory.create(poolName, poolStats), window(poolName));
+    }
+
+    /**
+     * 풀의 지난 조회 이후 구간 통계를 꺼내고 초기화
+     */
+    public WindowStats drain(String poolName) {
+        return window(poolName).drain();
+    }
+
+    private Window window(String poolName) {
+        return windows.computeIfAbsent(poolName, name -> new Window());
+    }
+
+    /**
+     * 커넥션을 요청한 애플리케이션 메서드 (설정/저장소 계층은 건너뛰고 서비스, 컨트롤러 등 첫 호출 위치)
+     */
+    static String resolveCaller() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> isCallerFrame(frame.getClassName()))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse(UNKNOWN_CALLER));
+    }
+
+    static boolean isCallerFrame(String className) {
+        return className.startsWith(APP_PACKAGE)
+                && !className.startsWith(APP_PACKAGE + "config.")
+                && !className.startsWith(APP_PACKAGE + "repository.")
+                && !className.contains("$$");
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private class Tracker implements IMetricsTracker {
+
+        private final String poolName;
+        private final IMetricsTracker delegate;
+        private final Window window;
+        private final Map<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+        private final Map<String, Timer> usageTimers = new ConcurrentHashMap<>();
+        private final Map<String, Counter> longHeldCounters = new ConcurrentHashMap<>();
+        // 이 스레드가 빌린(아직 반납하지 않은) 커넥션의 호출 위치 - 중첩 획득(REQUIRES_NEW 등)은 나중 것부터 반납
+        private final ThreadLocal<Deque<String>> pendingCallers = ThreadLocal.withInitial(ArrayDeque::new);
+
+        Tracker(String poolName, IMetricsTracker delegate, Window window) {
+            this.poolName = poolName;
+            this.delegate = delegate;
+            this.window = window;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            window.acquireNanos.add(elapsedAcquiredNanos);
+            window.acquires.increment();
+
+            Deque<String> pending = pendingCallers.get();
+            if (pending.size() >= MAX_PENDING) {
+                pending.clear();
+            }
+            if (ThreadLocalRandom.current().nextInt(callerSampleRate) != 0) {
+                pending.push(NOT_SAMPLED);
+                return;
+            }
+            String caller = resolveCaller();
+            pending.push(caller);
+            acquireTimers.computeIfAbsent(caller, c -> Timer.builder("db.connection.acquire")
+                            .description("커넥션 획득 대기 시간 (호출 메서드별)")
+                            .tag("pool", poolName)
+                            .tag("caller", c)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry))
+                    .record(elapsedAcquiredNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            window.usageMillis.add(elapsedBorrowedMillis);
+            window.usages.increment();
+
+            // 다른 스레드에서 반납하면 이 스레드의 스택이 비어 있으므로 표본이 아닌 것으로 봄
+            String caller = pendingCallers.get().poll();
+            boolean sampled = caller != null && !caller.equals(NOT_SAMPLED);
+            if (sampled) {
+                usageTimers.computeIfAbsent(caller, c -> Timer.builder("db.connection.usage")
+                                .description("커넥션 점유 시간 (호출 메서드별)")
+                                .tag("pool", poolName)
+                                .tag("caller", c)
+                                .register(meterRegistry))
+                        .record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+            }
+            if (elapsedBorrowedMillis >= longHeldThresholdMs) {
+                if (!sampled) {
+                    caller = resolveCaller();
+                }
+                longHeldCounters.computeIfAbsent(caller, c -> Counter.builder("db.connection.long-held")
+                                .description("임계값보다 오래 점유된 커넥션 수")
+                                .tag("pool", poolName)
+                                .tag("caller", c)
+                                .register(meterRegistry))
+                        .increment();
+                log.warn("커넥션 장시간 점유: pool={}, caller={}, {}ms", poolName, caller, elapsedBorrowedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            delegate.recordConnectionTimeout();
+            window.timeouts.increment();
+            log.warn("커넥션 획득 시간 초과: pool={}, caller={}", poolName, resolveCaller());
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+
+    private static class Window {
+
+        private final LongAdder acquireNanos = new LongAdder();
+        private final LongAdder acquires = new LongAdder();
+        private final LongAdder usageMillis = new LongAdder();
+        private final LongAdder usages = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        WindowStats drain() {
+            long acquireCount = acquires.sumThenReset();
+            long acquireTotal = acquireNanos.sumThenReset();
+            long usageCount = usages.sumThenReset();
+            long usageTotal = usageMillis.sumThenReset();
+            return new WindowStats(
+                    acquireCount,
+                    acquireCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(acquireTotal / acquireCount),
+                    usageCount == 0 ? 0 : usageTotal / usageCount,
+                    timeouts.sumThenReset());
+        }
+    }
+
+    /**
+     * 구간 통계 (획득 횟수, 평균 획득 대기 ms, 평균 점유 ms, 획득 시간 초과 수)
+     */
+    public record WindowStats(long acquires, long avgAcquireMs, long avgUsageMs, long timeouts) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.first.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 프라이머리/레플리카 DataSource 설정
+ * - 프라이머리: spring.datasource.* (spring.datasource.hikari.*)
+ * - 레플리카: app.datasource.replica.* (jdbc-url 이 설정된 경우에만 생성)
+ * R2DBC ConnectionFactory 가 있으면 Spring Boot 의 JDBC DataSource 자동 설정이 꺼지므로
+ * JPA/Flyway 용 DataSource 는 항상 여기서 직접 생성
+ * 두 풀 모두 ConnectionTelemetry 로 지표를 수집 (Spring Boot 기본 Hikari 지표 등록 대신 사용)
+ */
+@Configuration
+@Slf4j
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    public ConnectionTelemetry connectionTelemetry(ObjectProvider<MeterRegistry> meterRegistry,
+                                                   @Value("${app.datasource.telemetry.long-held-threshold-ms:2000}") long longHeldThresholdMs,
+                                                   @Value("${app.datasource.telemetry.caller-sample-rate:10}") int callerSampleRate) {
+        return new ConnectionTelemetry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                longHeldThresholdMs, callerSampleRate);
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties,
+                                              ConnectionTelemetry connectionTelemetry) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setMetricsTrackerFactory(connectionTelemetry);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.datasource.replica.jdbc-url")
+    @ConfigurationProperties("app.datasource.replica")
+    public HikariDataSource replicaDataSource(ConnectionTelemetry connectionTelemetry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMetricsTrackerFactory(connectionTelemetry);
+        return dataSource;
+    }
+
+    /**
+     * 애플리케이션(JPA, Flyway 등)이 사용하는 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource) {
+        DataSource replica = replicaDataSource.getIfAvailable();
+        log.info("DataSource 라우팅 설정: 레플리카 {}", replica != null ? "사용" : "미사용");
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(primaryDataSource, replica);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
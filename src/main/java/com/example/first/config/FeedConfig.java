@@ -0,0 +1,32 @@
+package com.example.first.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class FeedConfig {
+
+    /**
+     * 피드 분배(팔로워 피드 INSERT)를 요청 스레드 밖에서 실행하기 위한 전용 스레드 풀
+     * 대기열이 가득 차면 게시글을 커밋한 스레드가 직접 분배 (분배를 버리지 않고 그 요청만 느려짐)
+     * 종료 시 대기열의 분배를 shutdown-await-seconds 까지 마치고 끝냄 (server.shutdown=graceful 로 새 요청은 먼저 막음)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor feedTaskExecutor(@Value("${app.feed.threads:2}") int threads,
+                                                   @Value("${app.feed.queue-capacity:1000}") int queueCapacity,
+                                                   @Value("${app.feed.shutdown-await-seconds:30}") int awaitSeconds) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("feed-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitSeconds);
+        return executor;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.first.config;
+
+import com.example.first.migration.V9__article_content_storage;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Java 마이그레이션 등록
+ * 네이티브 이미지는 클래스패스 스캔으로 클래스를 찾을 수 없으므로 Java 마이그레이션은 빈으로 등록
+ * (Spring Boot 가 JavaMigration 빈을 Flyway 설정에 추가, SQL 마이그레이션은 리소스 힌트로 포함)
+ */
+@Configuration
+public class FlywayMigrationConfig {
+
+    @Bean
+    public JavaMigration articleContentStorageMigration() {
+        return new V9__article_content_storage();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.first.config;
+
+import com.example.first.dto.JsonWritable;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * JsonWritable 응답(단건 또는 컬렉션)을 응답 스트림에 바로 쓰는 변환기
+ * Jackson ObjectMapper 의 리플렉션 기반 직렬화(게터 탐색, 중간 객체) 대신 JsonGenerator 로 필드를 직접 씀
+ * 쓰기 전용이며, 그 외 타입은 다음 변환기(Jackson)가 처리
+ */
+public class JsonWritableHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public JsonWritableHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonWritable.class.isAssignableFrom(clazz) || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (JsonWritable.class.isAssignableFrom(clazz)) {
+            return true;
+        }
+        // List<ArticleSummary> 처럼 요소 타입이 JsonWritable 인 컬렉션만
+        if (type == null || !Collection.class.isAssignableFrom(clazz)) {
+            return false;
+        }
+        Class<?> element = ResolvableType.forType(type).asCollection().resolveGeneric(0);
+        return element != null && JsonWritable.class.isAssignableFrom(element);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(Object body, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        writeTo(body, outputMessage.getBody());
+    }
+
+    /**
+     * JsonWritable 또는 그 컬렉션을 UTF-8 JSON 으로 씀 (스트림은 닫지 않음)
+     */
+    public static void writeTo(Object body, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (body instanceof Collection<?> items) {
+                generator.writeStartArray();
+                for (Object item : items) {
+                    ((JsonWritable) item).writeJson(generator);
+                }
+                generator.writeEndArray();
+            } else {
+                ((JsonWritable) body).writeJson(generator);
+            }
+        }
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("읽기는 지원하지 않습니다.", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("읽기는 지원하지 않습니다.", inputMessage);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.first.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 과부하 시 비싼 공개 요청(검색, 로그인)을 거절하기 위한 판단기
+ * - 최근 window 동안의 응답 시간 p99 가 임계값을 넘거나
+ * - 커넥션 풀에서 커넥션을 기다리는 스레드 수가 임계값을 넘으면 과부하로 판단
+ * 판단은 1초마다 백그라운드에서 하고, 요청 경로에서는 플래그만 읽음
+ * 거절하는 동안에는 새 표본이 쌓이지 않으므로 window 가 지나면 자연스럽게 해제됨
+ */
+@Component
+@Slf4j
+public class LoadShedder {
+
+    private static final int MIN_SAMPLES = 20;
+
+    private final AtomicLongArray latencies;
+    private final AtomicLongArray recordedAt;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final long windowNanos;
+    private final long p99ThresholdNanos;
+    private final int pendingThreshold;
+    private final ObjectProvider<HikariDataSource> pools;
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean overloaded = false;
+
+    public LoadShedder(ObjectProvider<HikariDataSource> pools,
+                       @Value("${app.load-shedding.sample-size:1024}") int sampleSize,
+                       @Value("${app.load-shedding.window-seconds:10}") long windowSeconds,
+                       @Value("${app.load-shedding.p99-threshold-ms:2000}") long p99ThresholdMs,
+                       @Value("${app.load-shedding.pending-connections-threshold:10}") int pendingThreshold) {
+        this.pools = pools;
+        this.latencies = new AtomicLongArray(sampleSize);
+        this.recordedAt = new AtomicLongArray(sampleSize);
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        this.p99ThresholdNanos = TimeUnit.MILLISECONDS.toNanos(p99ThresholdMs);
+        this.pendingThreshold = pendingThreshold;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "load-shedder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleAtFixedRate(this::evaluate, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    /**
+     * 처리된 요청의 응답 시간 기록 (링 버퍼, 오래된 표본은 덮어씀)
+     */
+    public void record(long latencyNanos) {
+        int index = Math.floorMod(cursor.getAndIncrement(), latencies.length());
+        latencies.set(index, latencyNanos);
+        recordedAt.set(index, System.nanoTime());
+    }
+
+    void evaluate() {
+        try {
+            long p99 = p99();
+            int pending = pendingConnections();
+            boolean next = p99 > p99ThresholdNanos || pending > pendingThreshold;
+            if (next != overloaded) {
+                log.warn(next ? "과부하 감지, 공개 요청 거절 시작: p99={}ms, 커넥션 대기={}"
+                                : "과부하 해제: p99={}ms, 커넥션 대기={}",
+                        TimeUnit.NANOSECONDS.toMillis(p99), pending);
+            }
+            overloaded = next;
+        } catch (RuntimeException e) {
+            log.warn("과부하 판단 실패: {}", e.getMessage());
+        }
+    }
+
+    long p99() {
+        long now = System.nanoTime();
+        long[] samples = new long[latencies.length()];
+        int count = 0;
+        for (int i = 0; i < latencies.length(); i++) {
+            long at = recordedAt.get(i);
+            if (at != 0 && now - at <= windowNanos) {
+                samples[count++] = latencies.get(i);
+            }
+        }
+        if (count < MIN_SAMPLES) {
+            return 0;
+        }
+        Arrays.sort(samples, 0, count);
+        return samples[(int) Math.ceil(count * 0.99) - 1];
+    }
+
+    private int pendingConnections() {
+        return pools.orderedStream()
+                .map(HikariDataSource::getHikariPoolMXBean)
+                .filter(bean -> bean != null)
+                .mapToInt(HikariPoolMXBean::getThreadsAwaitingConnection)
+                .max()
+                .orElse(0);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.first.config;
+
+import com.example.first.dto.ActivityDto;
+import com.example.first.dto.ActivityPageDto;
+import com.example.first.dto.ArticleDto;
+import com.example.first.dto.ChangeDto;
+import com.example.first.dto.ChangeFeedDto;
+import com.example.first.dto.CommentDto;
+import com.example.first.dto.FeedPageDto;
+import com.example.first.dto.SuggestionDto;
+import com.example.first.dto.UserLoginDto;
+import com.example.first.dto.UserRegistrationDto;
+import com.example.first.entity.Article;
+import com.example.first.entity.Comment;
+import com.example.first.entity.User;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * GraalVM 네이티브 이미지용 힌트
+ * 네이티브 이미지는 빌드 시점에 알 수 있는 리플렉션/리소스만 포함하므로
+ * Spring AOT 가 자동으로 찾지 못하는 것들을 직접 등록
+ * - Mustache 템플릿이 리플렉션으로 읽는 DTO/엔티티 getter (모델에 담기는 객체)
+ * - CommentStreamHub 가 ObjectMapper 로 직접 직렬화하는 CommentDto
+ * - 템플릿, 정적 리소스, 마이그레이션 파일
+ * Article.author 같은 LAZY 연관은 빌드 시 바이트코드 향상(hibernate 플러그인)으로
+ * 엔티티 자체가 프록시 역할을 하므로 런타임 프록시 클래스 생성이 필요 없음
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+public class NativeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private static final Class<?>[] TEMPLATE_MODELS = {
+                ArticleDto.class, CommentDto.class, SuggestionDto.class, ChangeDto.class, ChangeFeedDto.class,
+                ActivityDto.class, ActivityPageDto.class, FeedPageDto.class,
+                UserLoginDto.class, UserRegistrationDto.class,
+                Article.class, Comment.class, User.class, User.Role.class
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> type : TEMPLATE_MODELS) {
+                hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+
+            hints.resources()
+                    .registerPattern("templates/*.mustache")
+                    .registerPattern("templates/**/*.mustache")
+                    .registerPattern("static/**")
+                    .registerPattern("db/migration/**")
+                    .registerPattern("data.sql")
+                    .registerPattern("ehcache*.xml");
+        }
+    }
+}
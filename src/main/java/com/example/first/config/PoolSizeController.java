@@ -0,0 +1,86 @@
+package com.example.first.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프라이머리 커넥션 풀 최대 크기 자동 조정 (app.datasource.adaptive-pool.enabled=true 일 때만)
+ * - 커넥션 획득 대기가 길고 DB 쪽 지연(커넥션 평균 점유 시간)은 정상이면 풀이 부족한 것이므로 step 만큼 늘림
+ * - DB 지연이 이미 높으면 커넥션을 늘려도 DB 경합만 커지므로 유지
+ * - 대기가 없고 사용 중인 커넥션이 절반 미만이면 step 만큼 줄임 (유휴 커넥션은 idle-timeout 후 정리됨)
+ * 크기는 항상 min-size ~ max-size 범위 안에서만 바뀜
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.adaptive-pool.enabled", havingValue = "true")
+@Slf4j
+public class PoolSizeController {
+
+    private final HikariDataSource dataSource;
+    private final ConnectionTelemetry telemetry;
+    private final int minSize;
+    private final int maxSize;
+    private final int step;
+    private final long waitHighMs;
+    private final long waitLowMs;
+    private final long dbLatencyLimitMs;
+
+    public PoolSizeController(@Qualifier("primaryDataSource") HikariDataSource dataSource,
+                              ConnectionTelemetry telemetry,
+                              @Value("${app.datasource.adaptive-pool.min-size:5}") int minSize,
+                              @Value("${app.datasource.adaptive-pool.max-size:40}") int maxSize,
+                              @Value("${app.datasource.adaptive-pool.step:2}") int step,
+                              @Value("${app.datasource.adaptive-pool.wait-high-ms:50}") long waitHighMs,
+                              @Value("${app.datasource.adaptive-pool.wait-low-ms:2}") long waitLowMs,
+                              @Value("${app.datasource.adaptive-pool.db-latency-limit-ms:200}") long dbLatencyLimitMs) {
+        if (minSize < 1 || maxSize < minSize || step < 1) {
+            throw new IllegalArgumentException("커넥션 풀 자동 조정 범위가 올바르지 않습니다: min="
+                    + minSize + ", max=" + maxSize + ", step=" + step);
+        }
+        this.dataSource = dataSource;
+        this.telemetry = telemetry;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.step = step;
+        this.waitHighMs = waitHighMs;
+        this.waitLowMs = waitLowMs;
+        this.dbLatencyLimitMs = dbLatencyLimitMs;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.adaptive-pool.interval-ms:10000}",
+            initialDelayString = "${app.datasource.adaptive-pool.interval-ms:10000}")
+    public void adjust() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return; // 아직 풀이 시작되지 않음
+        }
+        ConnectionTelemetry.WindowStats stats = telemetry.drain(dataSource.getPoolName());
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        int current = config.getMaximumPoolSize();
+        int next = nextSize(current, stats, pool.getActiveConnections(), pool.getThreadsAwaitingConnection());
+        if (next != current) {
+            config.setMaximumPoolSize(next);
+            log.info("커넥션 풀 크기 조정: {} -> {} (평균 대기 {}ms, 평균 점유 {}ms, 시간 초과 {}, 대기 스레드 {})",
+                    current, next, stats.avgAcquireMs(), stats.avgUsageMs(), stats.timeouts(),
+                    pool.getThreadsAwaitingConnection());
+        }
+    }
+
+    int nextSize(int current, ConnectionTelemetry.WindowStats stats, int active, int pending) {
+        boolean starved = stats.avgAcquireMs() >= waitHighMs || stats.timeouts() > 0;
+        if (starved && stats.avgUsageMs() < dbLatencyLimitMs) {
+            return Math.min(maxSize, Math.max(minSize, current + step));
+        }
+        boolean idle = stats.avgAcquireMs() <= waitLowMs && stats.timeouts() == 0 && pending == 0;
+        if (idle && active * 2 < current) {
+            return Math.max(minSize, Math.min(maxSize, current - step));
+        }
+        return Math.max(minSize, Math.min(maxSize, current));
+    }
+}
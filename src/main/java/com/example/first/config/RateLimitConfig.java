@@ -0,0 +1,57 @@
+package com.example.first.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * 사용자명별 로그인 실패 제한 버킷 (실패 핸들러가 차감, 필터는 남은 토큰만 확인)
+     */
+    @Bean
+    public TokenBucketLimiter loginFailureLimiter(
+            @Value("${app.rate-limit.max-clients:100000}") int maxClients,
+            @Value("${app.rate-limit.login.capacity:5}") double loginCapacity,
+            @Value("${app.rate-limit.login.refill-per-second:0.2}") double loginRefill) {
+        return new TokenBucketLimiter(loginCapacity, loginRefill, maxClients);
+    }
+
+    /**
+     * 요청 수 제한 필터 등록
+     * 인코딩 필터 뒤, Spring Security 필터 앞에서 실행 (로그인 BCrypt 검증 전에 거절)
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            LoadShedder loadShedder,
+            TokenBucketLimiter loginFailureLimiter,
+            @Value("${app.rate-limit.max-clients:100000}") int maxClients,
+            @Value("${app.rate-limit.search.capacity:20}") double searchCapacity,
+            @Value("${app.rate-limit.search.refill-per-second:5}") double searchRefill,
+            @Value("${app.rate-limit.login.capacity:5}") double loginCapacity,
+            @Value("${app.rate-limit.login.refill-per-second:0.2}") double loginRefill,
+            @Value("${app.rate-limit.availability.capacity:10}") double availabilityCapacity,
+            @Value("${app.rate-limit.availability.refill-per-second:0.5}") double availabilityRefill) {
+
+        List<RateLimitFilter.Policy> policies = List.of(
+                new RateLimitFilter.Policy("search", "GET",
+                        List.of("/api/articles/search", "/api/reactive/articles/search"),
+                        new TokenBucketLimiter(searchCapacity, searchRefill, maxClients), null, null),
+                new RateLimitFilter.Policy("login", "POST", List.of("/login"),
+                        new TokenBucketLimiter(loginCapacity, loginRefill, maxClients),
+                        "username", loginFailureLimiter),
+                // 회원가입 중복 확인 (인증 없이 열려 있으므로 사용자명/이메일 대량 확인 방지)
+                new RateLimitFilter.Policy("availability", "GET", List.of("/api/users/availability"),
+                        new TokenBucketLimiter(availabilityCapacity, availabilityRefill, maxClients), null, null));
+
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(policies, loadShedder));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.first.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개된 비싼 요청(검색: LIKE 전체 스캔, 로그인: BCrypt 검증)과 계정 정보 확인(중복 확인)의 요청 수 제한
+ * - 경로별 정책(Policy)에 따라 클라이언트 IP 별 토큰 버킷 적용, 초과 시 429
+ * - 로그인은 대상 사용자명 기준 실패 횟수로도 제한 (여러 IP에서 한 계정을 대입하는 경우)
+ *   사용자명 버킷은 로그인 실패 시에만 차감하므로(SecurityConfig 실패 핸들러) 사용자명만 반복 전송해서는 잠기지 않음
+ * - 과부하(LoadShedder) 상태에서는 정책 대상 요청을 503 으로 거절
+ * Spring Security 필터보다 먼저 실행됨 (RateLimitConfig)
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * 경로별 제한 정책
+     * @param keyParameter null 이 아니면 해당 요청 파라미터 값의 perKey 버킷이 비었을 때 거절 (여기서는 차감하지 않음)
+     */
+    public record Policy(String name, String method, List<String> paths,
+                         TokenBucketLimiter perClient, String keyParameter, TokenBucketLimiter perKey) {
+
+        boolean matches(HttpServletRequest request) {
+            return method.equalsIgnoreCase(request.getMethod()) && paths.contains(request.getServletPath());
+        }
+    }
+
+    private static final long SHED_RETRY_AFTER_SECONDS = 5;
+
+    private final List<Policy> policies;
+    private final LoadShedder loadShedder;
+
+    public RateLimitFilter(List<Policy> policies, LoadShedder loadShedder) {
+        this.policies = policies;
+        this.loadShedder = loadShedder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Policy policy = findPolicy(request);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (loadShedder.isOverloaded()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, SHED_RETRY_AFTER_SECONDS,
+                    "요청이 많아 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        long waitNanos = policy.perClient().tryAcquire(request.getRemoteAddr());
+        if (waitNanos == 0 && policy.keyParameter() != null) {
+            String key = request.getParameter(policy.keyParameter());
+            if (key != null && !key.isBlank()) {
+                waitNanos = policy.perKey().peek(key);
+            }
+        }
+        if (waitNanos > 0) {
+            log.debug("요청 수 제한: 정책={}, IP={}", policy.name(), request.getRemoteAddr());
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds(waitNanos),
+                    "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            loadShedder.record(System.nanoTime() - start);
+        }
+    }
+
+    private Policy findPolicy(HttpServletRequest request) {
+        for (Policy policy : policies) {
+            if (policy.matches(request)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds,
+                               String message) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(message);
+    }
+}
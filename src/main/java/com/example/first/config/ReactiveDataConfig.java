@@ -0,0 +1,45 @@
+package com.example.first.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.boot.actuate.r2dbc.ConnectionFactoryHealthIndicator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
+
+/**
+ * JPA 와 R2DBC 를 함께 사용하기 위한 설정
+ * R2DBC 가 추가되면 트랜잭션 매니저가 두 개(JPA, R2DBC)가 되므로
+ * 기존 @Transactional 이 JPA 트랜잭션 매니저를 사용하도록 기본값으로 지정
+ * (R2DBC 읽기 API 는 트랜잭션 없이 단건/스트림 조회만 수행)
+ */
+@Configuration
+public class ReactiveDataConfig {
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    /**
+     * R2DBC health 검사 (자동 설정 대신 직접 등록 - 같은 이름이면 자동 설정은 빠짐)
+     * AOT/네이티브 실행은 management.health.r2dbc.enabled 같은 빈 조건을 빌드 시점에 확정하므로,
+     * 빈은 항상 두고 실행 시점의 설정 값으로 검사 여부를 결정 (h2 프로필은 false → UNKNOWN)
+     */
+    @Bean
+    public ReactiveHealthIndicator r2dbcHealthIndicator(
+            ConnectionFactory connectionFactory,
+            @Value("${management.health.r2dbc.enabled:true}") boolean enabled) {
+        ConnectionFactoryHealthIndicator delegate = new ConnectionFactoryHealthIndicator(connectionFactory);
+        return () -> enabled
+                ? delegate.health()
+                : Mono.just(Health.unknown().withDetail("reason", "disabled").build());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.first.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 사용자가 데이터를 변경한 직후에는 레플리카 복제 지연 때문에 자신이 쓴 내용이 안 보일 수 있으므로
+ * 변경 요청(POST/PUT/PATCH/DELETE)과 그 이후 일정 시간 동안의 요청은 프라이머리에서 읽도록 함
+ */
+@Component
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    static final String LAST_WRITE_AT = ReadYourWritesInterceptor.class.getName() + ".LAST_WRITE_AT";
+
+    private final long windowMillis;
+
+    public ReadYourWritesInterceptor(@Value("${app.datasource.read-your-writes-window-ms:5000}") long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isMutation(request) || isWithinWriteWindow(request.getSession(false))) {
+            ReplicationRoutingDataSource.forcePrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicationRoutingDataSource.clearForcePrimary();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicationRoutingDataSource.clearForcePrimary();
+
+        // 변경이 끝난 시점부터 일정 시간 동안 프라이머리에서 읽기
+        HttpSession session = request.getSession(false);
+        if (isMutation(request) && session != null) {
+            session.setAttribute(LAST_WRITE_AT, System.currentTimeMillis());
+        }
+    }
+
+    private boolean isMutation(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+
+    private boolean isWithinWriteWindow(HttpSession session) {
+        if (session == null) {
+            return false;
+        }
+        Object lastWriteAt = session.getAttribute(LAST_WRITE_AT);
+        return lastWriteAt instanceof Long
+                && System.currentTimeMillis() - (Long) lastWriteAt < windowMillis;
+    }
+}
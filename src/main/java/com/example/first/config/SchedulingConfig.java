@@ -0,0 +1,14 @@
+package com.example.first.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled)과 비동기 작업(@Async, 실행할 스레드 풀을 이름으로 지정) 활성화
+ */
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class SchedulingConfig {
+}
@@ -0,0 +1,133 @@
+package com.example.first.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시작 시 Repository 쿼리들이 기대하는 인덱스가 실제 DB에 있는지 확인
+ * 누락된 인덱스는 경고 로그로 알림 (마이그레이션이 적용되지 않은 DB 등)
+ * 유니크 제약조건은 DB 에 따라 이름이 다를 수 있으므로(ddl-auto 로 생성 후 baseline) 컬럼으로 확인
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaIndexVerifier {
+
+    // 테이블별 기대 인덱스 (db/migration 에서 생성)
+    static final Map<String, List<String>> EXPECTED_INDEXES = new LinkedHashMap<>();
+
+    // 테이블별 기대 유니크 컬럼 (이름과 관계없이 해당 컬럼만으로 된 유니크 인덱스가 있으면 통과)
+    static final Map<String, List<String>> EXPECTED_UNIQUE_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        EXPECTED_UNIQUE_COLUMNS.put("users", List.of("username", "email", "nickname"));
+
+        EXPECTED_INDEXES.put("users", List.of(
+                "idx_users_nickname_trgm"));
+        EXPECTED_INDEXES.put("article", List.of(
+                "idx_article_created_at", "idx_article_author_created_at", "idx_article_view_count",
+                "idx_article_title_trgm", "idx_article_content_trgm", "idx_article_deleted_at"));
+        EXPECTED_INDEXES.put("comment", List.of(
+                "idx_comment_article_id", "idx_comment_nickname", "idx_comment_deleted_at",
+                "idx_comment_article_path", "idx_comment_author_created"));
+        EXPECTED_INDEXES.put("change_log", List.of(
+                "idx_change_log_txid", "idx_change_log_article_txid"));
+        EXPECTED_INDEXES.put("archived_comment", List.of(
+                "idx_archived_comment_article_path"));
+        EXPECTED_INDEXES.put("cache_invalidation", List.of(
+                "idx_cache_invalidation_created_at", "idx_cache_invalidation_txid"));
+        EXPECTED_INDEXES.put("user_follow", List.of(
+                "idx_user_follow_followee"));
+        EXPECTED_INDEXES.put("timeline_entry", List.of(
+                "idx_timeline_entry_user_created", "idx_timeline_entry_article_id"));
+    }
+
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            int missing = 0;
+
+            for (Map.Entry<String, List<String>> entry : EXPECTED_INDEXES.entrySet()) {
+                Set<String> actual = indexNames(metaData, connection.getSchema(), entry.getKey());
+                for (String expected : entry.getValue()) {
+                    if (!actual.contains(expected)) {
+                        log.warn("인덱스 누락: 테이블={}, 인덱스={} (마이그레이션 적용 여부를 확인하세요)",
+                                entry.getKey(), expected);
+                        missing++;
+                    }
+                }
+            }
+
+            for (Map.Entry<String, List<String>> entry : EXPECTED_UNIQUE_COLUMNS.entrySet()) {
+                Set<String> actual = singleColumnUniqueIndexes(metaData, connection.getSchema(), entry.getKey());
+                for (String column : entry.getValue()) {
+                    if (!actual.contains(column)) {
+                        log.warn("유니크 인덱스 누락: 테이블={}, 컬럼={} (마이그레이션 적용 여부를 확인하세요)",
+                                entry.getKey(), column);
+                        missing++;
+                    }
+                }
+            }
+
+            if (missing == 0) {
+                log.info("인덱스 확인 완료: 누락된 인덱스 없음");
+            }
+        } catch (SQLException e) {
+            log.warn("인덱스 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private Set<String> indexNames(DatabaseMetaData metaData, String schema, String table) throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (ResultSet rs = metaData.getIndexInfo(null, schema, table, false, true)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                if (name != null) {
+                    names.add(name.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return names;
+    }
+
+    // 컬럼 하나로 된 유니크 인덱스의 컬럼 이름 (여러 컬럼 인덱스는 제외)
+    private Set<String> singleColumnUniqueIndexes(DatabaseMetaData metaData, String schema, String table)
+            throws SQLException {
+        Map<String, Set<String>> columnsByIndex = new HashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(null, schema, table, true, true)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (name != null && column != null) {
+                    columnsByIndex.computeIfAbsent(name, n -> new HashSet<>()).add(column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        Set<String> columns = new HashSet<>();
+        for (Set<String> indexColumns : columnsByIndex.values()) {
+            if (indexColumns.size() == 1) {
+                columns.addAll(indexColumns);
+            }
+        }
+        return columns;
+    }
+}
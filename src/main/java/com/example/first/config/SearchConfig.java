@@ -0,0 +1,27 @@
+package com.example.first.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class SearchConfig {
+
+    /**
+     * 검색 하위 쿼리(제목, 내용, 작성자)를 동시에 실행하기 위한 전용 스레드 풀
+     * 풀과 대기열이 가득 차면 거절 (호출 스레드에서 타임아웃 없이 실행하지 않음, 해당 하위 쿼리는 빈 결과로 처리)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor searchTaskExecutor(@Value("${app.search.threads:8}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("search-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 4);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -26,6 +27,14 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * 정적 리소스는 보안 필터 체인을 거치지 않음 (세션 조회, 보안 헤더 처리 생략)
+     */
+    @Bean
+    public WebSecurityCustomizer staticResourceCustomizer() {
+        return web -> web.ignoring().requestMatchers(WebConfig.STATIC_RESOURCE_PATTERNS);
+    }
+
     /**
      * 로그인 성공 핸들러
      */
@@ -43,11 +52,16 @@ public class SecurityConfig {
     }
 
     /**
-     * 로그인 실패 핸들러
+     * 로그인 실패 핸들러 (사용자명별 실패 제한 버킷 차감)
      */
     @Bean
-    public AuthenticationFailureHandler authenticationFailureHandler() {
+    public AuthenticationFailureHandler authenticationFailureHandler(TokenBucketLimiter loginFailureLimiter) {
         return (request, response, exception) -> {
+            String username = request.getParameter("username");
+            if (username != null && !username.isBlank()) {
+                loginFailureLimiter.tryAcquire(username);
+            }
+
             log.error("=== 로그인 실패 ===");
             log.error("사용자명: {}", request.getParameter("username"));
             log.error("실패 원인: {}", exception.getMessage());
@@ -65,21 +79,29 @@ public class SecurityConfig {
      * Spring Security 설정
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           AuthenticationSuccessHandler authenticationSuccessHandler,
+                                           AuthenticationFailureHandler authenticationFailureHandler) throws Exception {
         http
                 // CSRF 보호 (개발 단계에서는 비활성화)
                 .csrf(csrf -> csrf.disable())
 
                 // URL별 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
-                        // 정적 리소스와 공개 페이지는 인증 없이 접근 가능
+                        // 공개 페이지는 인증 없이 접근 가능 (정적 리소스는 staticResourceCustomizer 에서 제외)
                         .requestMatchers("/", "/home", "/login", "/register",
-                                "/css/**", "/js/**", "/images/**",
                                 "/debug/**").permitAll()  // 디버깅 URL 추가
                         // H2 콘솔 접근 허용 (개발용)
                         .requestMatchers("/h2-console/**").permitAll()
                         // API 엔드포인트 중 공개적으로 접근 가능한 것들
-                        .requestMatchers("/api/articles/search").permitAll()
+                        .requestMatchers("/api/articles/search", "/api/articles/suggestions",
+                                "/api/reactive/articles/search").permitAll()
+                        // 회원가입 폼의 중복 확인
+                        .requestMatchers("/users/register", "/api/users/availability").permitAll()
+                        // 운영 지표는 관리자만
+                        .requestMatchers("/actuator/health", "/actuator/health/liveness",
+                                "/actuator/health/readiness").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 나머지 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -90,8 +112,8 @@ public class SecurityConfig {
                         .loginProcessingUrl("/login")     // 로그인 폼 제출 URL
                         .usernameParameter("username")    // 사용자명 파라미터명
                         .passwordParameter("password")    // 비밀번호 파라미터명
-                        .successHandler(authenticationSuccessHandler())  // 성공 핸들러
-                        .failureHandler(authenticationFailureHandler())  // 실패 핸들러
+                        .successHandler(authenticationSuccessHandler)  // 성공 핸들러
+                        .failureHandler(authenticationFailureHandler)  // 실패 핸들러
                         .permitAll()
                 )
 
@@ -0,0 +1,27 @@
+package com.example.first.config;
+
+import com.samskivert.mustache.Mustache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+/**
+ * 템플릿에서 정적 리소스 URL 을 내용 해시가 붙은 URL 로 바꾸는 람다 제공
+ * 사용법: {{#asset}}/css/app.css{{/asset}} → /css/app-{md5}.css
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class StaticAssetAdvice {
+
+    private final ResourceUrlProvider resourceUrlProvider;
+
+    @ModelAttribute("asset")
+    public Mustache.Lambda asset() {
+        return (fragment, out) -> {
+            String path = fragment.execute().trim();
+            String versioned = resourceUrlProvider.getForLookupPath(path);
+            out.write(versioned != null ? versioned : path);
+        };
+    }
+}
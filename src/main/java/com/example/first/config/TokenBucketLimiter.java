@@ -0,0 +1,121 @@
+package com.example.first.config;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트 키별 토큰 버킷
+ * - 버킷 상태(남은 토큰, 마지막 갱신 시각)를 AtomicReference 로 두고 CAS 로 갱신 (토큰 차감에는 락 없음)
+ * - 키 맵은 ConcurrentHashMap 이라 버킷을 찾거나 만들 때도 전역 락이 없음
+ * - 키가 maxKeys 개를 넘으면 새 키를 만든 스레드 하나만 정리 (근사 상한)
+ *   가득 찬 버킷은 없는 것과 같으므로 먼저 제거하고, 그래도 많으면 임의의 키를 90% 까지 제거
+ */
+public class TokenBucketLimiter {
+
+    private record State(double tokens, long updatedAt) {
+    }
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final Map<String, AtomicReference<State>> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public TokenBucketLimiter(double capacity, double refillPerSecond, int maxKeys) {
+        this(capacity, refillPerSecond, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketLimiter(double capacity, double refillPerSecond, int maxKeys, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 토큰 하나 사용 시도
+     * @return 0 이면 허용, 아니면 다음 토큰까지 기다려야 하는 시간(나노초)
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicReference<State> bucket = buckets.get(key);
+        boolean created = false;
+        if (bucket == null) {
+            AtomicReference<State> fresh = new AtomicReference<>(new State(capacity, now));
+            bucket = buckets.putIfAbsent(key, fresh);
+            if (bucket == null) {
+                bucket = fresh;
+                created = true;
+            }
+        }
+
+        long wait = acquire(bucket, now);
+        // 방금 만든 버킷은 토큰을 쓴 뒤에 정리해야 가득 찬 버킷으로 보고 지우지 않음
+        if (created && buckets.size() > maxKeys) {
+            evict(now);
+        }
+        return wait;
+    }
+
+    /**
+     * 토큰을 쓰지 않고 남은 토큰만 확인 (버킷이 없으면 가득 찬 것으로 봄)
+     * @return 0 이면 토큰 있음, 아니면 다음 토큰까지 기다려야 하는 시간(나노초)
+     */
+    public long peek(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicReference<State> bucket = buckets.get(key);
+        if (bucket == null) {
+            return 0;
+        }
+        double tokens = refilled(bucket.get(), now);
+        return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private long acquire(AtomicReference<State> bucket, long now) {
+        while (true) {
+            State current = bucket.get();
+            double tokens = refilled(current, now);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            if (bucket.compareAndSet(current, new State(tokens - 1, Math.max(now, current.updatedAt())))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 이미 다른 스레드가 정리 중이면 기다리지 않고 넘어감
+     */
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> refilled(bucket.get(), now) >= capacity);
+            int target = Math.max(1, maxKeys / 10 * 9);
+            Iterator<String> keys = buckets.keySet().iterator();
+            while (buckets.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private double refilled(State state, long now) {
+        long elapsed = Math.max(0, now - state.updatedAt());
+        return Math.min(capacity, state.tokens() + elapsed * tokensPerNano);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.first.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    // 내용 해시 URL 로 제공하는 정적 리소스 경로
+    private static final String[] STATIC_RESOURCE_DIRS = {"css", "js", "images"};
+    static final String[] STATIC_RESOURCE_PATTERNS = {"/css/**", "/js/**", "/images/**"};
+
+    private final ReadYourWritesInterceptor readYourWritesInterceptor;
+
+    /**
+     * 읽기 전용 record 응답(JsonWritable)은 Jackson 보다 먼저 직접 직렬화
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new JsonWritableHttpMessageConverter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 변경 직후 읽기는 프라이머리로 (레플리카 복제 지연 대응)
+        registry.addInterceptor(readYourWritesInterceptor);
+    }
+
+    /**
+     * 정적 리소스 제공
+     * - URL 에 내용 해시를 붙임 (/css/app-{md5}.css), 템플릿에서는 {{#asset}} 람다로 변환
+     * - 해시가 붙은 URL 은 내용이 바뀌면 URL 이 바뀌므로 1년 immutable 캐시 (ImmutableAssetResolver)
+     * - 해시 없이 요청한 원래 경로는 매번 Last-Modified 로 재검증 (no-cache)
+     * - 빌드 시 미리 만든 .br/.gz 가 있으면 Accept-Encoding 에 맞춰 그대로 전송 (요청마다 압축하지 않음)
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String dir : STATIC_RESOURCE_DIRS) {
+            registry.addResourceHandler("/" + dir + "/**")
+                    .addResourceLocations("classpath:/static/" + dir + "/")
+                    .setCacheControl(CacheControl.noCache().cachePublic())
+                    .resourceChain(true)
+                    .addResolver(new ImmutableAssetResolver())
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.first.controller;
 
 import com.example.first.dto.ArticleDto;
+import com.example.first.dto.ArticleSummary;
+import com.example.first.dto.FeedPageDto;
+import com.example.first.dto.SuggestionDto;
 import com.example.first.entity.Article;
 import com.example.first.entity.User;
 import com.example.first.service.ArticleService;
+import com.example.first.service.FeedService;
+import com.example.first.service.SuggestionIndex;
 import com.example.first.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +30,8 @@ public class ArticleController {
 
     private final ArticleService articleService;
     private final UserService userService;
+    private final SuggestionIndex suggestionIndex;
+    private final FeedService feedService;
 
     /**
      * 게시글 목록 페이지
@@ -46,7 +53,8 @@ public class ArticleController {
                     articles = articleService.searchByContent(search);
                     break;
                 default:
-                    articles = articleService.searchByTitleOrContent(search);
+                    // 제목, 내용, 작성자 병렬 검색 후 점수순 병합
+                    articles = articleService.searchAll(search);
                     break;
             }
             model.addAttribute("search", search);
@@ -80,7 +88,8 @@ public class ArticleController {
         if (currentUserDetails != null) {
             currentUser = userService.findByUsername(currentUserDetails.getUsername());
             model.addAttribute("currentUser", currentUser);
-            model.addAttribute("isAuthor", article.isAuthor(currentUser));
+            // 보관된 게시글은 수정/삭제 불가
+            model.addAttribute("isAuthor", !article.isArchived() && article.isAuthor(currentUser));
         }
 
         model.addAttribute("article", article);
@@ -282,23 +291,59 @@ public class ArticleController {
     }
 
     /**
-     * 게시글 검색 API (AJAX용)
+     * 팔로우한 작성자의 게시글 피드 (cursor 로 다음 페이지)
+     */
+    @GetMapping("/feed")
+    public String feed(@RequestParam(value = "cursor", required = false) String cursor,
+                       Model model,
+                       @AuthenticationPrincipal UserDetails currentUserDetails) {
+
+        // 로그인 확인
+        if (currentUserDetails == null) {
+            return "redirect:/login";
+        }
+
+        User currentUser = userService.findByUsername(currentUserDetails.getUsername());
+        FeedPageDto page = feedService.feed(currentUser, cursor, 20);
+
+        model.addAttribute("page", page);
+        model.addAttribute("currentUser", currentUser);
+        return "articles/feed";
+    }
+
+    /**
+     * 게시글 검색 API (AJAX용, 읽기 전용 record 로 변환해 리플렉션 없이 직렬화)
      */
     @GetMapping("/api/articles/search")
     @ResponseBody
-    public List<ArticleDto> searchArticles(@RequestParam String keyword,
-                                           @RequestParam(defaultValue = "all") String type) {
+    public List<ArticleSummary> searchArticles(@RequestParam String keyword,
+                                               @RequestParam(defaultValue = "all") String type) {
 
         log.info("게시글 검색 요청: keyword={}, type={}", keyword, type);
 
+        List<ArticleDto> articles;
         switch (type) {
             case "title":
-                return articleService.searchByTitle(keyword);
+                articles = articleService.searchByTitle(keyword);
+                break;
             case "content":
-                return articleService.searchByContent(keyword);
+                articles = articleService.searchByContent(keyword);
+                break;
             default:
-                return articleService.searchByTitleOrContent(keyword);
+                articles = articleService.searchAll(keyword);
+                break;
         }
+        return articles.stream().map(ArticleSummary::from).toList();
+    }
+
+    /**
+     * 검색어 자동완성 API (메모리 색인만 조회, DB 접근 없음)
+     */
+    @GetMapping("/api/articles/suggestions")
+    @ResponseBody
+    public List<SuggestionDto> suggestions(@RequestParam("q") String prefix,
+                                           @RequestParam(defaultValue = "10") int limit) {
+        return suggestionIndex.suggest(prefix, Math.min(Math.max(limit, 1), 20));
     }
 
     /**
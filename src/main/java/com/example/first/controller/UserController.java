@@ -1,15 +1,23 @@
 package com.example.first.controller;
 
+import com.example.first.dto.ActivityPageDto;
 import com.example.first.dto.UserRegistrationDto;
+import com.example.first.entity.User;
+import com.example.first.service.DuplicateUserException;
+import com.example.first.service.FeedService;
+import com.example.first.service.UserActivityService;
 import com.example.first.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
@@ -20,6 +28,8 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class UserController {
 
     private final UserService userService;
+    private final UserActivityService userActivityService;
+    private final FeedService feedService;
 
     /**
      * 홈 페이지 (로그인 전 랜딩 페이지)
@@ -48,6 +58,30 @@ public class UserController {
         return "users/login";
     }
 
+    /**
+     * 사용자 활동 페이지 (작성한 게시글과 댓글을 시간순으로, cursor 로 다음 페이지)
+     */
+    @GetMapping("/users/{id}/activity")
+    public String activityPage(@PathVariable Long id,
+                               @RequestParam(value = "cursor", required = false) String cursor,
+                               @AuthenticationPrincipal UserDetails currentUserDetails,
+                               Model model) {
+        User user = userService.findById(id);
+        ActivityPageDto page = userActivityService.activity(id, cursor, 20);
+
+        model.addAttribute("user", user);
+        model.addAttribute("page", page);
+        // 다른 사용자의 활동 페이지면 팔로우 버튼 표시
+        if (currentUserDetails != null) {
+            User currentUser = userService.findByUsername(currentUserDetails.getUsername());
+            if (!currentUser.getId().equals(id)) {
+                model.addAttribute("canFollow", true);
+                model.addAttribute("following", feedService.isFollowing(currentUser, id));
+            }
+        }
+        return "users/activity";
+    }
+
     /**
      * 회원가입 페이지
      */
@@ -91,6 +125,15 @@ public class UserController {
 
             return "redirect:/login";
 
+        } catch (DuplicateUserException e) {
+            log.error("회원가입 실패: {}", e.getMessage());
+            // 중복된 필드에 에러 표시
+            if (e.getField() != null) {
+                result.rejectValue(e.getField(), "error." + e.getField(), e.getMessage());
+            }
+            model.addAttribute("errorMessage", e.getMessage());
+            return "users/register";
+
         } catch (IllegalArgumentException e) {
             log.error("회원가입 실패: {}", e.getMessage());
             model.addAttribute("errorMessage", e.getMessage());
@@ -0,0 +1,54 @@
+package com.example.first.dto;
+
+import com.example.first.entity.Article;
+import com.example.first.entity.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 사용자 활동 목록 항목 (작성한 게시글 또는 댓글)
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@ToString
+public class ActivityDto {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    // 같은 작성 시각이면 게시글이 댓글보다 앞 (선언 순서가 정렬 순서)
+    public enum Type { ARTICLE, COMMENT }
+
+    private Type type;
+    // 게시글 또는 댓글 ID
+    private Long id;
+    private Long articleId;
+    private String articleTitle;
+    // 게시글은 미리보기, 댓글은 본문
+    private String excerpt;
+    private LocalDateTime createdAt;
+
+    public static ActivityDto of(Article article) {
+        return new ActivityDto(Type.ARTICLE, article.getId(), article.getId(), article.getTitle(),
+                article.getPreview(), article.getCreatedAt());
+    }
+
+    public static ActivityDto of(Comment comment) {
+        return new ActivityDto(Type.COMMENT, comment.getId(), comment.getArticle().getId(),
+                comment.getArticle().getTitle(), comment.getBody(), comment.getCreatedAt());
+    }
+
+    public boolean isArticle() {
+        return type == Type.ARTICLE;
+    }
+
+    public String getFormattedCreatedAt() {
+        if (createdAt == null) return "";
+        return createdAt.format(DATE_TIME_FORMATTER);
+    }
+}
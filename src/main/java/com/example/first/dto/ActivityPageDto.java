@@ -0,0 +1,19 @@
+package com.example.first.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@ToString
+public class ActivityPageDto {
+    private List<ActivityDto> items;
+    // 다음 페이지 요청의 cursor 값 (마지막 항목의 작성일시_종류_ID, 더 없으면 null)
+    private String nextCursor;
+    private boolean hasMore;
+}
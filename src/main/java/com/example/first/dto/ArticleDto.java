@@ -2,6 +2,7 @@ package com.example.first.dto;
 
 import com.example.first.entity.Article;
 import com.example.first.entity.User;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -17,6 +18,9 @@ import java.time.format.DateTimeFormatter;
 @ToString
 @Getter
 public class ArticleDto {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private Long id;
 
     @NotBlank(message = "제목은 필수입니다.")
@@ -36,6 +40,17 @@ public class ArticleDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Long viewCount;
+    private Long commentCount;
+
+    // 본문 미리보기 (목록 조회는 본문 없이 미리보기만 채움)
+    private String preview;
+
+    // 미리보기가 본문을 자른 것인지 (목록 표시용 - 응답에는 포함하지 않음)
+    @JsonIgnore
+    private boolean previewTruncated;
+
+    // 보관된 게시글 여부 (보관된 글은 읽기 전용)
+    private boolean archived;
 
     // 생성자 (게시글 작성용 - 제목과 내용만)
     public ArticleDto(String title, String content) {
@@ -81,7 +96,32 @@ public class ArticleDto {
                 article.getAuthor().getNickname(),
                 article.getCreatedAt(),
                 article.getUpdatedAt(),
-                article.getViewCount()
+                article.getViewCount(),
+                article.getCommentCount(),
+                article.getPreview(),
+                article.isPreviewTruncated(),
+                false
+        );
+    }
+
+    /**
+     * Entity → 목록용 DTO 변환 (본문 제외 - 지연 로딩된 본문을 읽지 않음)
+     */
+    public static ArticleDto summaryOf(Article article) {
+        return new ArticleDto(
+                article.getId(),
+                article.getTitle(),
+                null,
+                article.getAuthor().getId(),
+                article.getAuthor().getUsername(),
+                article.getAuthor().getNickname(),
+                article.getCreatedAt(),
+                article.getUpdatedAt(),
+                article.getViewCount(),
+                article.getCommentCount(),
+                article.getPreview(),
+                article.isPreviewTruncated(),
+                false
         );
     }
 
@@ -90,12 +130,12 @@ public class ArticleDto {
      */
     public String getFormattedCreatedAt() {
         if (createdAt == null) return "";
-        return createdAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        return createdAt.format(DATE_TIME_FORMATTER);
     }
 
     public String getFormattedUpdatedAt() {
         if (updatedAt == null) return "";
-        return updatedAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        return updatedAt.format(DATE_TIME_FORMATTER);
     }
 
     /**
@@ -116,12 +156,27 @@ public class ArticleDto {
     }
 
     /**
-     * 게시글 요약 (미리보기용)
+     * 게시글 요약 (미리보기용, 최대 maxLength 자)
+     * 목록용 DTO 는 본문 대신 저장된 미리보기를 자르고, 미리보기 자체가 잘린 것이면 "..." 을 붙임
      */
     public String getContentPreview(int maxLength) {
-        if (content == null) return "";
-        if (content.length() <= maxLength) return content;
-        return content.substring(0, maxLength) + "...";
+        if (content != null) {
+            return shorten(content, maxLength, false);
+        }
+        if (preview == null) return "";
+        return shorten(preview, maxLength, previewTruncated);
+    }
+
+    // maxLength 자로 자르고 (서로게이트 쌍은 자르지 않음) 잘렸으면 "..." 추가
+    private static String shorten(String text, int maxLength, boolean alreadyTruncated) {
+        if (text.length() <= maxLength) {
+            return alreadyTruncated ? text + "..." : text;
+        }
+        int end = maxLength;
+        if (end > 0 && Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end) + "...";
     }
 
     /**
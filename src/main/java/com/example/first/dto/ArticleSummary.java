@@ -0,0 +1,89 @@
+package com.example.first.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 게시글 목록/검색 응답 (읽기 전용 record)
+ * 화면 표시용 값(작성일 문자열, 미리보기, 수정 여부)은 생성 시 한 번만 계산
+ * JSON 필드는 기존 ArticleDto 응답과 같음 (목록에는 본문이 없으므로 content 제외)
+ */
+public record ArticleSummary(
+        Long id,
+        String title,
+        Long authorId,
+        String authorUsername,
+        String authorNickname,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long viewCount,
+        long commentCount,
+        String preview,
+        boolean archived,
+        String contentPreview,
+        String formattedCreatedAt,
+        String formattedUpdatedAt) implements JsonWritable {
+
+    public static ArticleSummary from(ArticleDto dto) {
+        return new ArticleSummary(
+                dto.getId(),
+                dto.getTitle(),
+                dto.getAuthorId(),
+                dto.getAuthorUsername(),
+                dto.getAuthorNickname(),
+                dto.getCreatedAt(),
+                dto.getUpdatedAt(),
+                dto.getViewCount() != null ? dto.getViewCount() : 0L,
+                dto.getCommentCount() != null ? dto.getCommentCount() : 0L,
+                dto.getPreview(),
+                dto.isArchived(),
+                dto.getContentPreview(),
+                dto.getFormattedCreatedAt(),
+                dto.getFormattedUpdatedAt());
+    }
+
+    public boolean updated() {
+        return updatedAt != null;
+    }
+
+    @Override
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeNumber(generator, "id", id);
+        generator.writeStringField("title", title);
+        writeNumber(generator, "authorId", authorId);
+        generator.writeStringField("authorUsername", authorUsername);
+        generator.writeStringField("authorNickname", authorNickname);
+        writeDateTime(generator, "createdAt", createdAt);
+        writeDateTime(generator, "updatedAt", updatedAt);
+        generator.writeNumberField("viewCount", viewCount);
+        generator.writeNumberField("commentCount", commentCount);
+        generator.writeStringField("preview", preview);
+        generator.writeBooleanField("archived", archived);
+        generator.writeStringField("contentPreview", contentPreview);
+        generator.writeStringField("formattedCreatedAt", formattedCreatedAt);
+        generator.writeStringField("formattedUpdatedAt", formattedUpdatedAt);
+        generator.writeBooleanField("updated", updated());
+        generator.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator generator, String name, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    // Jackson JavaTimeModule 기본 형식과 같은 ISO-8601 (2024-01-01T10:00:00)
+    private static void writeDateTime(JsonGenerator generator, String name, LocalDateTime value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.first.dto;
+
+import com.example.first.entity.ChangeLog;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@ToString
+public class ChangeDto {
+    private Long seq;
+    private ChangeLog.EntityType entityType;
+    private Long entityId;
+    private Long articleId;
+    private ChangeLog.Operation operation;
+    private LocalDateTime createdAt;
+
+    public static ChangeDto createDto(ChangeLog changeLog) {
+        return new ChangeDto(
+                changeLog.getId(),
+                changeLog.getEntityType(),
+                changeLog.getEntityId(),
+                changeLog.getArticleId(),
+                changeLog.getOperation(),
+                changeLog.getCreatedAt()
+        );
+    }
+}
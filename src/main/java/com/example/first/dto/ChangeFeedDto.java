@@ -0,0 +1,20 @@
+package com.example.first.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@ToString
+public class ChangeFeedDto {
+    private List<ChangeDto> changes;
+    // 다음 요청의 since 값 = 마지막 변경의 트랜잭션 ID (변경이 없으면 요청한 since 그대로)
+    private Long nextSince;
+    // limit 만큼 가져왔으면 더 있을 수 있음
+    private boolean hasMore;
+}
@@ -13,13 +13,23 @@ public class CommentDto {
     private Long articleId;
     private String nickname;
     private String body;
+    // 답글이면 부모 댓글 ID (작성 시 지정)
+    private Long parentId;
+    // 답글 깊이 (최상위 댓글이 0)
+    private int depth;
+
+    public CommentDto(Long id, Long articleId, String nickname, String body) {
+        this(id, articleId, nickname, body, null, 0);
+    }
 
     public static CommentDto createDto(Comment comment) {
         return new CommentDto(
                 comment.getId(),
                 comment.getArticle().getId(),
                 comment.getNickname(),
-                comment.getBody()
+                comment.getBody(),
+                comment.getParentId(),
+                comment.getDepth()
         );
     }
 }
@@ -0,0 +1,21 @@
+package com.example.first.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@ToString
+public class CommentThreadDto {
+    // 최상위 댓글 size 개와 그 답글 (표시 순서)
+    private List<CommentDto> comments;
+    // 다음 요청의 after 값 (이 페이지의 마지막 최상위 댓글 ID)
+    private Long nextAfter;
+    // 최상위 댓글이 더 있음
+    private boolean hasMore;
+}
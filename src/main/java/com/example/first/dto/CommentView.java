@@ -0,0 +1,41 @@
+package com.example.first.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * 댓글 조회 응답 (읽기 전용 record, JSON 필드는 CommentDto 와 같음)
+ */
+public record CommentView(Long id, Long articleId, String nickname, String body,
+                          Long parentId, int depth) implements JsonWritable {
+
+    public static CommentView from(CommentDto dto) {
+        return new CommentView(dto.getId(), dto.getArticleId(), dto.getNickname(), dto.getBody(),
+                dto.getParentId(), dto.getDepth());
+    }
+
+    @Override
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        if (id == null) {
+            generator.writeNullField("id");
+        } else {
+            generator.writeNumberField("id", id);
+        }
+        if (articleId == null) {
+            generator.writeNullField("articleId");
+        } else {
+            generator.writeNumberField("articleId", articleId);
+        }
+        generator.writeStringField("nickname", nickname);
+        generator.writeStringField("body", body);
+        if (parentId == null) {
+            generator.writeNullField("parentId");
+        } else {
+            generator.writeNumberField("parentId", parentId);
+        }
+        generator.writeNumberField("depth", depth);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.first.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * 리플렉션 없이 직접 JSON 으로 쓰는 응답 DTO (JsonWritableHttpMessageConverter 가 사용)
+ */
+public interface JsonWritable {
+
+    void writeJson(JsonGenerator generator) throws IOException;
+}
@@ -0,0 +1,16 @@
+package com.example.first.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@ToString
+public class SuggestionDto {
+    private String text;
+    // TITLE: 게시글 제목, AUTHOR: 작성자 닉네임
+    private String type;
+}
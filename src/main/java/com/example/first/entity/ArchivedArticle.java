@@ -0,0 +1,71 @@
+package com.example.first.entity;
+
+import com.example.first.dto.ArticleDto;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된(오래된) 게시글 - 읽기 전용
+ * 원래 게시글 id 를 그대로 사용해서 기존 URL(/articles/{id})로 계속 조회 가능
+ */
+@Entity
+@Table(name = "archived_article")
+@NoArgsConstructor
+@Getter
+@ToString(exclude = {"author", "content"})
+public class ArchivedArticle {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    // 본문은 압축 저장
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(nullable = false)
+    private String content;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_id", nullable = false)
+    private User author;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Long viewCount;
+
+    @Column(nullable = false)
+    private Long commentCount;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * 보관 작업에서 원본 게시글로 생성 (본문은 저장할 때 CompressedTextConverter 가 압축)
+     */
+    public ArchivedArticle(Article article, String content, LocalDateTime archivedAt) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.content = content;
+        this.author = article.getAuthor();
+        this.createdAt = article.getCreatedAt();
+        this.updatedAt = article.getUpdatedAt();
+        this.viewCount = article.getViewCount();
+        this.commentCount = article.getCommentCount();
+        this.archivedAt = archivedAt;
+    }
+
+    public ArticleDto toDto() {
+        return new ArticleDto(id, title, content,
+                author.getId(), author.getUsername(), author.getNickname(),
+                createdAt, updatedAt, viewCount, commentCount, Article.previewOf(content), false, true);
+    }
+}
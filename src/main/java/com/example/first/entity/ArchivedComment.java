@@ -0,0 +1,55 @@
+package com.example.first.entity;
+
+import com.example.first.dto.CommentDto;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 게시글의 댓글 - 읽기 전용
+ */
+@Entity
+@Table(name = "archived_comment")
+@NoArgsConstructor
+@Getter
+@ToString
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long articleId;
+
+    @Column
+    private String nickname;
+
+    @Column
+    private String body;
+
+    // 답글 트리 (원본 댓글의 값 그대로)
+    @ToString.Exclude
+    @Column(name = "parent_id")
+    private Long parentId;
+    @ToString.Exclude
+    @Column(nullable = false)
+    private int depth;
+    @ToString.Exclude
+    @Column(length = 100)
+    private String path;
+
+    // 작성한 회원 ID (로그인 전에 작성된 댓글은 null)
+    @ToString.Exclude
+    @Column(name = "author_id")
+    private Long authorId;
+    @ToString.Exclude
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public CommentDto toDto() {
+        return new CommentDto(id, articleId, nickname, body, parentId, depth);
+    }
+}
@@ -2,16 +2,28 @@ package com.example.first.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 2차 캐시 (인기 게시글 반복 조회)
+@SQLDelete(sql = "UPDATE article SET deleted_at = now() WHERE id = ?") // 삭제는 표시만 (SoftDeletePurgeJob 이 실제 삭제)
+@SQLRestriction("deleted_at IS NULL") // 삭제 표시된 게시글은 조회에서 제외
 @AllArgsConstructor
-@ToString(exclude = "author") // author 필드는 toString에서 제외 (순환 참조 방지)
+@ToString(exclude = {"author", "content"}) // author 필드는 toString에서 제외 (순환 참조 방지), 본문은 지연 로딩
 @NoArgsConstructor
 @Getter
 @Setter
 public class Article {
+    public static final int PREVIEW_LENGTH = 100;
+    // article 테이블 조회 쿼리 캐시 리전 (다른 서버의 게시글 변경 시 이 리전만 비움)
+    public static final String QUERY_CACHE_REGION = "query.article";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY) // DB가 ID 자동 생성
     private Long id;
@@ -19,9 +31,21 @@ public class Article {
     @Column(nullable = false)
     private String title;
 
+    // 본문은 실제로 읽을 때 별도 조회 (목록에서는 preview 만 사용)
+    // DB 에서는 TOAST 로 압축되어 본 테이블 밖에 저장 (V9)
+    @Basic(fetch = FetchType.LAZY)
     @Column(nullable = false, length = 5000)
     private String content;
 
+    // 목록용 본문 미리보기 (본문 저장 시 함께 갱신)
+    @Column(length = PREVIEW_LENGTH)
+    private String preview;
+
+    // 미리보기가 본문을 자른 것인지 (본문 길이와 비교해서 저장 - 목록에서는 본문을 읽지 않으므로)
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean previewTruncated;
+
     // 작성자와의 관계 (Many-to-One)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
@@ -38,10 +62,22 @@ public class Article {
     @Column(nullable = false)
     private Long viewCount = 0L;
 
+    // 댓글 수 (ArticleRepository.adjustCommentCount 로만 변경)
+    // 엔티티 저장 시 읽어 둔 값으로 덮어쓰지 않도록 insert/update 대상에서 제외
+    // INSERT 에 포함되지 않으므로 DB 기본값 필요 (ddl-auto 로 스키마를 만드는 h2 프로필에서도 생성되도록 명시)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long commentCount = 0L;
+
+    // 삭제 표시 시각 (@SQLDelete 로만 설정)
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
     // 생성자 (작성자와 함께)
     public Article(String title, String content, User author) {
         this.title = title;
         this.content = content;
+        updatePreview(content);
         this.author = author;
         this.createdAt = LocalDateTime.now();
         this.viewCount = 0L;
@@ -54,6 +90,9 @@ public class Article {
         if (viewCount == null) {
             viewCount = 0L;
         }
+        if (preview == null) {
+            updatePreview(content);
+        }
     }
 
     @PreUpdate
@@ -68,10 +107,28 @@ public class Article {
         }
         if (article.content != null && !article.content.trim().isEmpty()) {
             this.content = article.content;
+            updatePreview(article.content);
         }
         this.updatedAt = LocalDateTime.now();
     }
 
+    private void updatePreview(String content) {
+        this.preview = previewOf(content);
+        this.previewTruncated = content != null && content.length() > preview.length();
+    }
+
+    // 미리보기 생성 (앞부분 PREVIEW_LENGTH 자, 서로게이트 쌍은 자르지 않음)
+    public static String previewOf(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        int end = PREVIEW_LENGTH;
+        if (Character.isHighSurrogate(content.charAt(end - 1))) {
+            end--;
+        }
+        return content.substring(0, end);
+    }
+
     // 조회수 증가 메서드
     public void incrementViewCount() {
         this.viewCount++;
@@ -0,0 +1,54 @@
+package com.example.first.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로컬 캐시 무효화 메시지 (DbInvalidationTransport 가 기록하고 다른 서버가 조회)
+ * id 가 곧 무효화 버전, 조회 커서는 기록한 트랜잭션 ID(txid)
+ */
+@Entity
+@Table(name = "cache_invalidation")
+@NoArgsConstructor
+@Getter
+@ToString
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    // 변경한 서버 (자신이 보낸 메시지는 무시)
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    // 보관 기간 정리용
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 기록한 트랜잭션 ID (DB 기본값 txid_current() 로 채움)
+    @Column(insertable = false, updatable = false)
+    private Long txid;
+
+    public CacheInvalidation(EntityType entityType, Long entityId, String origin) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.origin = origin;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public enum EntityType {
+        ARTICLE, COMMENT, USER
+    }
+}
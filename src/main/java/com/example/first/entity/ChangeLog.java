@@ -0,0 +1,62 @@
+package com.example.first.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글/댓글 변경 이력 (추가만 하는 로그)
+ * id 는 INSERT 순번이라 커밋 순서와 다를 수 있으므로, 클라이언트 커서는 기록한 트랜잭션 ID(txid)를 쓴다
+ */
+@Entity
+@Table(name = "change_log")
+@NoArgsConstructor
+@Getter
+@ToString
+public class ChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    // 댓글 변경도 게시글 단위로 구독할 수 있도록 게시글 ID 기록
+    @Column(nullable = false)
+    private Long articleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Operation operation;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 기록한 트랜잭션 ID (DB 기본값 txid_current() 로 채움)
+    @Column(insertable = false, updatable = false)
+    private Long txid;
+
+    public ChangeLog(EntityType entityType, Long entityId, Long articleId, Operation operation) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.articleId = articleId;
+        this.operation = operation;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public enum EntityType {
+        ARTICLE, COMMENT
+    }
+
+    public enum Operation {
+        CREATE, UPDATE, DELETE
+    }
+}
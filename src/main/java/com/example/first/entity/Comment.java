@@ -3,14 +3,25 @@ package com.example.first.entity;
 import com.example.first.dto.CommentDto;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 @Entity
+@SQLDelete(sql = "UPDATE comment SET deleted_at = now() WHERE id = ?") // 삭제는 표시만 (SoftDeletePurgeJob 이 실제 삭제)
+@SQLRestriction("deleted_at IS NULL") // 삭제 표시된 댓글은 조회에서 제외
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
 @ToString
 public class Comment {
+
+    // 답글 최대 깊이 (최상위 댓글이 0, 더 깊은 답글은 같은 깊이의 형제로 달림)
+    public static final int MAX_DEPTH = 8;
+    // path 에서 댓글 하나가 차지하는 자리수 (id 를 0으로 채움)
+    public static final int PATH_SEGMENT_LENGTH = 10;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -22,19 +33,96 @@ public class Comment {
     @Column
     private String body;
 
+    // 답글 트리 (parent_id: 부모 댓글, path: 최상위 댓글부터 자신까지의 id 경로 = 표시 순서)
+    @ToString.Exclude
+    @Column(name = "parent_id")
+    private Long parentId;
+    @ToString.Exclude
+    @Column(nullable = false)
+    private int depth;
+    @ToString.Exclude
+    @Column(length = 100)
+    private String path;
+
+    // 작성한 회원 ID (로그인 전에 작성된 댓글은 null, 사용자 활동 목록 조회용)
+    @ToString.Exclude
+    @Column(name = "author_id")
+    private Long authorId;
+    // 작성일시
+    @ToString.Exclude
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 삭제 표시 시각 (@SQLDelete 로만 설정)
+    @ToString.Exclude
+    @Column(name = "deleted_at", insertable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    public Comment(Long id, Article article, String nickname, String body) {
+        this.id = id;
+        this.article = article;
+        this.nickname = nickname;
+        this.body = body;
+    }
+
     public static Comment create(CommentDto commentDto, Article article) {
+        return create(commentDto, article, null);
+    }
+
+    /**
+     * 댓글/답글 생성 (parent 가 있으면 답글, 최대 깊이의 댓글에 단 답글은 그 부모의 답글로 처리)
+     * path 는 id 가 정해진 뒤 assignPath 로 채움
+     */
+    public static Comment create(CommentDto commentDto, Article article, Comment parent) {
         // 예외 발생
         if (commentDto.getId() != null)
             throw new IllegalArgumentException("댓글 생성 실패. 댓글의 ID가 없어야 합니다.");
         if (commentDto.getArticleId() != article.getId())
             throw new IllegalArgumentException("댓글 생성 실패. 게시글의 ID가 잟못되었습니다.");
+        if (parent != null && !parent.getArticle().getId().equals(article.getId()))
+            throw new IllegalArgumentException("댓글 생성 실패. 다른 게시글의 댓글에는 답글을 달 수 없습니다.");
         // 객체 생성
-        return new Comment(
+        Comment comment = new Comment(
                 commentDto.getId(),
                 article,
                 commentDto.getNickname(),
                 commentDto.getBody()
         );
+        if (parent != null) {
+            boolean full = parent.getDepth() >= MAX_DEPTH;
+            comment.parentId = full ? parent.getParentId() : parent.getId();
+            comment.depth = full ? parent.getDepth() : parent.getDepth() + 1;
+            comment.path = full ? parent.getPath().substring(0, parent.getPath().length() - PATH_SEGMENT_LENGTH)
+                    : parent.getPath();
+        } else {
+            comment.path = "";
+        }
+        return comment;
+    }
+
+    /**
+     * 저장으로 id 가 정해진 뒤 부모 경로에 자신의 id 를 붙임
+     */
+    public void assignPath() {
+        if (id == null)
+            throw new IllegalStateException("저장되지 않은 댓글입니다.");
+        this.path = (path != null ? path : "") + segment(id);
+    }
+
+    /**
+     * path 의 댓글 하나 (id 를 10자리로 채움)
+     */
+    public static String segment(Long id) {
+        String digits = Long.toString(id);
+        return "0".repeat(Math.max(0, PATH_SEGMENT_LENGTH - digits.length())) + digits;
+    }
+
+    // JPA 라이프사이클 콜백
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
     }
 
     public void patch(CommentDto commentDto) {
@@ -50,5 +138,3 @@ public class Comment {
         }
     }
 }
-
-
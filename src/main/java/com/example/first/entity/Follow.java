@@ -0,0 +1,43 @@
+package com.example.first.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 작성자 팔로우 (follower 가 followee 의 새 글을 피드로 받음)
+ * 추가/삭제는 FollowRepository 의 네이티브 쿼리로 (중복 팔로우는 무시)
+ */
+@Entity
+@Table(name = "user_follow")
+@IdClass(Follow.Key.class)
+@NoArgsConstructor
+@Getter
+@ToString
+public class Follow {
+
+    @Id
+    @Column(name = "follower_id")
+    private Long followerId;
+
+    @Id
+    @Column(name = "followee_id")
+    private Long followeeId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long followerId;
+        private Long followeeId;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.first.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 작성자별 팔로워 수 (팔로우/취소 시 FollowerCountRepository.adjust 로 증감)
+ * 사용자 2차 캐시와 분리하기 위해 users 테이블이 아닌 별도 테이블에 둠
+ */
+@Entity
+@Table(name = "follower_count")
+@NoArgsConstructor
+@Getter
+@ToString
+public class FollowerCount {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long followers;
+}
@@ -0,0 +1,43 @@
+package com.example.first.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 피드 항목 (팔로우한 작성자의 게시글, 작성 시 FeedService 가 팔로워들에게 분배)
+ * created_at 은 게시글 작성일시 (피드 정렬 기준)
+ */
+@Entity
+@Table(name = "timeline_entry")
+@IdClass(TimelineEntry.Key.class)
+@NoArgsConstructor
+@Getter
+@ToString
+public class TimelineEntry {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long articleId;
+    }
+}
@@ -5,6 +5,10 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,24 +17,39 @@ import java.util.Collection;
 import java.util.Collections;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 2차 캐시 (로그인, 요청마다 조회됨)
+@NaturalIdCache // 사용자명 → id 캐시
 @Getter
 @ToString
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "users") // 'user'는 H2에서 예약어이므로 'users' 사용
+@Table(name = "users", // 'user'는 H2에서 예약어이므로 'users' 사용
+        uniqueConstraints = {
+                // 제약조건 이름으로 어떤 필드가 중복인지 판별하므로 이름을 고정
+                @UniqueConstraint(name = User.UK_USERNAME, columnNames = "username"),
+                @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email"),
+                @UniqueConstraint(name = User.UK_NICKNAME, columnNames = "nickname")
+        })
 public class User implements UserDetails {
 
+    public static final String UK_USERNAME = "uk_users_username";
+    public static final String UK_EMAIL = "uk_users_email";
+    public static final String UK_NICKNAME = "uk_users_nickname";
+    // users 테이블 조회 쿼리 캐시 리전 (다른 서버의 사용자 변경 시 이 리전만 비움)
+    public static final String QUERY_CACHE_REGION = "query.users";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true, nullable = false)
+    @NaturalId
+    @Column(nullable = false)
     private String username;
 
     @Column(nullable = false)
     private String password;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -0,0 +1,30 @@
+package com.example.first.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 게시글 생성/수정/삭제 이벤트 (ArticleService 가 발행)
+ * 변경 전 제목과 변경 후 값을 함께 담아서 구독자가 증분 갱신할 수 있게 함
+ * 변경 전 본문은 담지 않음 (지연 로딩 본문을 수정/삭제마다 읽지 않도록)
+ * - CREATED: previousTitle 이 null
+ * - DELETED: title, content 가 null
+ */
+@Getter
+@AllArgsConstructor
+@ToString(exclude = "content")
+public class ArticleChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long articleId;
+    private final Long authorId;
+    private final String authorNickname;
+    private final String previousTitle;
+    private final String title;
+    private final String content;
+}
@@ -0,0 +1,23 @@
+package com.example.first.event;
+
+import com.example.first.dto.CommentDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 댓글 생성/수정/삭제 이벤트 (CommentService 가 발행, 커밋 후 구독자에게 전달)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class CommentChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long articleId;
+    private final CommentDto comment;
+}
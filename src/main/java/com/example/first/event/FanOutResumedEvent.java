@@ -0,0 +1,17 @@
+package com.example.first.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 작성자의 팔로워 수가 분배 기준 아래로 내려가 다시 분배하게 된 이벤트 (FeedService 가 발행)
+ * 기준 이상이던 동안 작성한 게시글은 피드에 없으므로 커밋 후 팔로워 피드에 채움
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class FanOutResumedEvent {
+
+    private final Long authorId;
+}
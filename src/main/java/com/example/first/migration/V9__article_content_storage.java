@@ -0,0 +1,76 @@
+package com.example.first.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 게시글 본문 저장 방식 변경
+ * - 목록용 미리보기 컬럼(preview) 추가
+ * - 본문은 lz4 로 압축하고 (lz4 를 지원하지 않는 서버는 기본 pglz 유지)
+ *   toast_tuple_target 을 낮춰 일정 크기 이상이면 본 테이블 밖(TOAST 테이블)에 저장
+ *   → 목록 조회가 읽는 본 테이블이 작아지고, 본문은 읽을 때만 압축 해제
+ * - 기존 행은 id 구간별로 나눠 다시 써서 새 저장 방식을 적용 (구간마다 커밋, 긴 잠금 방지)
+ * 네이티브 이미지에서는 클래스패스 스캔으로 Java 마이그레이션을 찾을 수 없으므로
+ * 스캔 위치(db/migration) 밖에 두고 빈으로 등록 (FlywayMigrationConfig)
+ * 버전/설명은 클래스 이름에서 정해지므로 패키지를 옮겨도 이미 적용된 이력과 같음
+ */
+public class V9__article_content_storage extends BaseJavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(V9__article_content_storage.class);
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int PREVIEW_LENGTH = 100;
+
+    // 구간마다 커밋해야 하므로 하나의 트랜잭션으로 감싸지 않음
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE article ADD COLUMN IF NOT EXISTS preview VARCHAR(" + PREVIEW_LENGTH + ")");
+            statement.execute("ALTER TABLE article SET (toast_tuple_target = 256)");
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE article ALTER COLUMN content SET COMPRESSION lz4");
+        } catch (SQLException e) {
+            log.warn("lz4 압축을 사용할 수 없어 기본 압축(pglz)을 유지합니다: {}", e.getMessage());
+        }
+
+        long maxId;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM article")) {
+            rs.next();
+            maxId = rs.getLong(1);
+        }
+
+        // content || '' 로 새 값을 만들어야 기존 TOAST 값을 재사용하지 않고 새 압축 방식으로 저장됨
+        String sql = "UPDATE article SET content = content || '', preview = LEFT(content, " + PREVIEW_LENGTH + ") " +
+                "WHERE id > ? AND id <= ?";
+        long updated = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long from = 0; from < maxId; from += BATCH_SIZE) {
+                statement.setLong(1, from);
+                statement.setLong(2, from + BATCH_SIZE);
+                updated += statement.executeUpdate();
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+            }
+        }
+        log.info("게시글 본문 저장 방식 변경 완료: {}건", updated);
+    }
+}
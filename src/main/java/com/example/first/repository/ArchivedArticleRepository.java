@@ -0,0 +1,15 @@
+package com.example.first.repository;
+
+import com.example.first.entity.ArchivedArticle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ArchivedArticleRepository extends JpaRepository<ArchivedArticle, Long> {
+
+    // 보관된 게시글 조회 (작성자 함께)
+    @Query("SELECT a FROM ArchivedArticle a JOIN FETCH a.author WHERE a.id = :id")
+    Optional<ArchivedArticle> findWithAuthorById(@Param("id") Long id);
+}
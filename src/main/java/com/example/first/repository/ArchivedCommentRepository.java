@@ -0,0 +1,27 @@
+package com.example.first.repository;
+
+import com.example.first.entity.ArchivedComment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ArchivedCommentRepository extends JpaRepository<ArchivedComment, Long> {
+
+    // 보관된 게시글의 댓글 조회 (path 순서 = 답글이 부모 아래에 오는 표시 순서)
+    List<ArchivedComment> findByArticleIdOrderByPathAsc(Long articleId);
+
+    // 보관 대상 게시글의 댓글을 보관 테이블로 한 번에 복사 (삭제 표시된 댓글 제외)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "archived_comment"))
+    @Query(value = "INSERT INTO archived_comment " +
+            "(id, article_id, nickname, body, parent_id, depth, path, author_id, created_at) " +
+            "SELECT id, article_id, nickname, body, parent_id, depth, path, author_id, created_at FROM comment " +
+            "WHERE article_id IN (:articleIds) AND deleted_at IS NULL", nativeQuery = true)
+    int copyFromComments(@Param("articleIds") List<Long> articleIds);
+}
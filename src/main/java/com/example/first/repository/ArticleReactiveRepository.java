@@ -0,0 +1,104 @@
+package com.example.first.repository;
+
+import com.example.first.dto.ArticleDto;
+import com.example.first.dto.CommentDto;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글/댓글 논블로킹 조회 (R2DBC)
+ * JDBC 커넥션을 점유하지 않고 결과를 스트리밍하므로 느린 클라이언트가 스레드/커넥션을 붙잡지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleReactiveRepository {
+
+    private static final String ARTICLE_FROM =
+            "a.author_id, u.username, u.nickname, " +
+            "a.created_at, a.updated_at, a.view_count, a.comment_count, a.preview, a.preview_truncated " +
+            "FROM article a JOIN users u ON u.id = a.author_id " +
+            "WHERE a.deleted_at IS NULL ";
+
+    // 상세 조회 (본문 포함)
+    private static final String ARTICLE_SELECT = "SELECT a.id, a.title, a.content, " + ARTICLE_FROM;
+
+    // 목록 조회 (본문 컬럼은 읽지 않음)
+    private static final String ARTICLE_SUMMARY_SELECT =
+            "SELECT a.id, a.title, CAST(NULL AS VARCHAR) AS content, " + ARTICLE_FROM;
+
+    private final DatabaseClient databaseClient;
+
+    // 게시글 단건 조회
+    public Mono<ArticleDto> findById(Long id) {
+        return databaseClient.sql(ARTICLE_SELECT + "AND a.id = :id")
+                .bind("id", id)
+                .map(ArticleReactiveRepository::toArticleDto)
+                .one();
+    }
+
+    // 게시글 검색 (type: title, content, all - 작성일 내림차순)
+    public Flux<ArticleDto> search(String keyword, String type, int limit) {
+        String condition;
+        switch (type) {
+            case "title":
+                condition = "UPPER(a.title) LIKE UPPER(:pattern) ";
+                break;
+            case "content":
+                condition = "UPPER(a.content) LIKE UPPER(:pattern) ";
+                break;
+            default:
+                condition = "(UPPER(a.title) LIKE UPPER(:pattern) OR UPPER(a.content) LIKE UPPER(:pattern)) ";
+                break;
+        }
+
+        return databaseClient.sql(ARTICLE_SUMMARY_SELECT + "AND " + condition + "ORDER BY a.created_at DESC LIMIT :limit")
+                .bind("pattern", "%" + escapeLike(keyword) + "%")
+                .bind("limit", limit)
+                .map(ArticleReactiveRepository::toArticleDto)
+                .all();
+    }
+
+    // 특정 게시글의 댓글 조회
+    public Flux<CommentDto> findCommentsByArticleId(Long articleId) {
+        return databaseClient.sql("SELECT id, article_id, nickname, body, parent_id, depth FROM comment " +
+                        "WHERE article_id = :articleId AND deleted_at IS NULL ORDER BY path")
+                .bind("articleId", articleId)
+                .map(row -> new CommentDto(
+                        row.get("id", Long.class),
+                        row.get("article_id", Long.class),
+                        row.get("nickname", String.class),
+                        row.get("body", String.class),
+                        row.get("parent_id", Long.class),
+                        row.get("depth", Integer.class)))
+                .all();
+    }
+
+    private static ArticleDto toArticleDto(Readable row) {
+        return new ArticleDto(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("content", String.class),
+                row.get("author_id", Long.class),
+                row.get("username", String.class),
+                row.get("nickname", String.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("view_count", Long.class),
+                row.get("comment_count", Long.class),
+                row.get("preview", String.class),
+                Boolean.TRUE.equals(row.get("preview_truncated", Boolean.class)),
+                false
+        );
+    }
+
+    // LIKE 특수문자(%, _) 이스케이프 (PostgreSQL 기본 이스케이프 문자 '\')
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
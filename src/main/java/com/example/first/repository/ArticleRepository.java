@@ -2,10 +2,16 @@ package com.example.first.repository;
 
 import com.example.first.entity.Article;
 import com.example.first.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -46,28 +52,127 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
     Page<Article> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseOrderByCreatedAtDesc(
             String title, String content, Pageable pageable);
 
+    // 사용자 활동 목록: 작성자의 게시글을 (작성일, id) 내림차순으로 (at, beforeId) 이전부터 조회 (키셋 페이지)
+    // createdAt <= :at 은 작성자별 작성일 인덱스의 탐색 시작점 (OR 조건만으로는 작성자의 모든 행을 읽음)
+    @Query("SELECT a FROM Article a WHERE a.author.id = :authorId " +
+            "AND a.createdAt <= :at AND (a.createdAt < :at OR a.id < :beforeId) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Article> findActivityBefore(@Param("authorId") Long authorId, @Param("at") java.time.LocalDateTime at,
+                                     @Param("beforeId") Long beforeId, Pageable pageable);
+
+    // 피드: 타임라인의 게시글 ID 로 작성자와 함께 조회
+    @Query("SELECT a FROM Article a JOIN FETCH a.author WHERE a.id IN :ids")
+    List<Article> findWithAuthorByIdIn(@Param("ids") java.util.Collection<Long> ids);
+
+    // 피드: 분배하지 않는 작성자들의 게시글 ID 를 (작성일, id) 내림차순으로 (at, beforeId) 이전부터 limit 개 조회
+    // 작성자마다 idx_article_author_created_at 에서 (at, beforeId) 다음부터 limit 개만 읽고 (LATERAL) 합쳐서 정렬
+    @Query(value = "SELECT p.id FROM users u CROSS JOIN LATERAL (" +
+            "SELECT a.id, a.created_at FROM article a WHERE a.author_id = u.id AND a.deleted_at IS NULL " +
+            "AND (a.created_at, a.id) < (:at, :beforeId) " +
+            "ORDER BY a.created_at DESC, a.id DESC LIMIT :limit) p " +
+            "WHERE u.id IN (:authorIds) " +
+            "ORDER BY p.created_at DESC, p.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findFeedIdsBefore(@Param("authorIds") java.util.Collection<Long> authorIds,
+                                 @Param("at") java.time.LocalDateTime at,
+                                 @Param("beforeId") Long beforeId, @Param("limit") int limit);
+
     // 조회수 Top N 게시글
     List<Article> findTop5ByOrderByViewCountDesc();
 
-    // 최근 게시글 Top N
+    // 조회수 상위 게시글 ID (시작 시 캐시 준비용)
+    @Query("SELECT a.id FROM Article a ORDER BY a.viewCount DESC, a.id DESC")
+    List<Long> findIdsOrderByViewCountDesc(Pageable pageable);
+
+    // 최근 게시글 Top N (쿼리 캐시 - article 테이블이 바뀔 때만 무효화)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Article.QUERY_CACHE_REGION)})
     List<Article> findTop5ByOrderByCreatedAtDesc();
 
     // 커스텀 쿼리: 제목, 내용, 작성자 닉네임으로 통합 검색
+    // (파생 쿼리의 IgnoreCase 와 같은 UPPER 를 사용해야 trigram 인덱스를 함께 사용)
     @Query("SELECT a FROM Article a JOIN a.author u WHERE " +
-            "LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(a.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(u.nickname) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "UPPER(a.title) LIKE UPPER(CONCAT('%', :keyword, '%')) OR " +
+            "UPPER(a.content) LIKE UPPER(CONCAT('%', :keyword, '%')) OR " +
+            "UPPER(u.nickname) LIKE UPPER(CONCAT('%', :keyword, '%')) " +
             "ORDER BY a.createdAt DESC")
     List<Article> searchByKeyword(@Param("keyword") String keyword);
 
     // 커스텀 쿼리: 통합 검색 (페이징)
     @Query("SELECT a FROM Article a JOIN a.author u WHERE " +
-            "LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(a.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(u.nickname) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "UPPER(a.title) LIKE UPPER(CONCAT('%', :keyword, '%')) OR " +
+            "UPPER(a.content) LIKE UPPER(CONCAT('%', :keyword, '%')) OR " +
+            "UPPER(u.nickname) LIKE UPPER(CONCAT('%', :keyword, '%')) " +
             "ORDER BY a.createdAt DESC")
     Page<Article> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+    // 병렬 검색용 하위 쿼리: 제목 (작성자 함께 조회, 작성일 내림차순, 상위 N건)
+    // 쿼리 타임아웃은 ArticleSearchExecutor 의 읽기 전용 트랜잭션 제한 시간(app.search.timeout-ms)으로 적용
+    @Query("SELECT a FROM Article a JOIN FETCH a.author WHERE " +
+            "UPPER(a.title) LIKE UPPER(CONCAT('%', :keyword, '%')) " +
+            "ORDER BY a.createdAt DESC")
+    List<Article> searchTitleWithAuthor(@Param("keyword") String keyword, Pageable pageable);
+
+    // 병렬 검색용 하위 쿼리: 내용
+    @Query("SELECT a FROM Article a JOIN FETCH a.author WHERE " +
+            "UPPER(a.content) LIKE UPPER(CONCAT('%', :keyword, '%')) " +
+            "ORDER BY a.createdAt DESC")
+    List<Article> searchContentWithAuthor(@Param("keyword") String keyword, Pageable pageable);
+
+    // 병렬 검색용 하위 쿼리: 작성자 닉네임
+    @Query("SELECT a FROM Article a JOIN FETCH a.author u WHERE " +
+            "UPPER(u.nickname) LIKE UPPER(CONCAT('%', :keyword, '%')) " +
+            "ORDER BY a.createdAt DESC")
+    List<Article> searchAuthorNicknameWithAuthor(@Param("keyword") String keyword, Pageable pageable);
+
+    // 자동완성 색인 초기화를 위한 제목 조회
+    @Query("SELECT a.title FROM Article a")
+    List<String> findAllTitles();
+
+    // 댓글 수 증감 (행 잠금으로 동시 댓글 작성 시에도 누락 없음, 댓글 변경을 먼저 flush)
+    // JPQL 벌크 UPDATE 는 Article 2차 캐시 리전 전체를 비우므로 네이티브 쿼리로 실행하고
+    // 동기화 대상을 comment 로 한정 (해당 게시글 캐시는 변경 전과 커밋 후에 ArticleCacheEvictor 가 제거)
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comment"))
+    @Query(value = "UPDATE article SET comment_count = comment_count + :delta WHERE id = :id", nativeQuery = true)
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // 댓글 수 재계산 대상 ID를 잠그면서 조회 (id 순 배치)
+    @Query(value = "SELECT id FROM article WHERE id > :afterId AND deleted_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockIdsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    // 댓글 수 재계산 (실제 값과 다른 행만 갱신)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "article"))
+    @Query(value = "UPDATE article a SET comment_count = c.cnt " +
+            "FROM (SELECT a2.id, (SELECT COUNT(*) FROM comment WHERE article_id = a2.id AND deleted_at IS NULL) AS cnt " +
+            "      FROM article a2 WHERE a2.id IN (:ids)) c " +
+            "WHERE a.id = c.id AND a.comment_count <> c.cnt", nativeQuery = true)
+    int recountComments(@Param("ids") List<Long> ids);
+
+    // 삭제 표시 후 보관 기간이 지났고 댓글이 모두 지워진 게시글 실제 삭제 (배치)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "article"))
+    @Query(value = "DELETE FROM article WHERE id IN (" +
+            "SELECT a.id FROM article a WHERE a.deleted_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM comment c WHERE c.article_id = a.id) LIMIT :limit)", nativeQuery = true)
+    int purgeDeleted(@Param("cutoff") java.time.LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 보관 대상(작성일이 기준 이전) 게시글을 잠그면서 조회 (작성자 함께, id 순 배치)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Article a JOIN FETCH a.author WHERE a.createdAt < :cutoff ORDER BY a.id")
+    List<Article> findArchiveCandidates(@Param("cutoff") java.time.LocalDateTime cutoff, Pageable pageable);
+
+    // 게시글 id 와 본문 조회 (지연 로딩 본문을 배치 단위로 한 번에)
+    @Query("SELECT a.id, a.content FROM Article a WHERE a.id IN :ids")
+    List<Object[]> findContents(@Param("ids") List<Long> ids);
+
+    // 보관 테이블로 옮긴 게시글 실제 삭제 (@SQLDelete 를 거치지 않음)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "article"))
+    @Query(value = "DELETE FROM article WHERE id IN (:ids)", nativeQuery = true)
+    int deleteArchived(@Param("ids") List<Long> ids);
+
     // 특정 기간 내 게시글 수 조회
     @Query("SELECT COUNT(a) FROM Article a WHERE a.createdAt >= :startDate")
     long countArticlesSince(@Param("startDate") java.time.LocalDateTime startDate);
@@ -0,0 +1,37 @@
+package com.example.first.repository;
+
+import com.example.first.entity.CacheInvalidation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    // 특정 트랜잭션 이후에 커밋이 끝난 무효화 메시지 (트랜잭션, 순번 오름차순)
+    // 진행 중인 트랜잭션 중 가장 오래된 것(snapshot xmin)보다 앞선 트랜잭션만 대상이며,
+    // limit 에서 끊긴 마지막 트랜잭션의 나머지 메시지까지 함께 반환
+    @Query(value = "SELECT c.* FROM cache_invalidation c " +
+            "WHERE c.txid > :since AND c.txid < txid_snapshot_xmin(txid_current_snapshot()) " +
+            "AND c.txid <= (SELECT MAX(p.txid) FROM (SELECT txid FROM cache_invalidation " +
+            "    WHERE txid > :since AND txid < txid_snapshot_xmin(txid_current_snapshot()) " +
+            "    ORDER BY txid, id LIMIT :limit) p) " +
+            "ORDER BY c.txid, c.id", nativeQuery = true)
+    List<CacheInvalidation> findCommittedAfter(@Param("since") long since, @Param("limit") int limit);
+
+    // 진행 중인 트랜잭션 중 가장 오래된 것의 ID (이보다 앞선 트랜잭션은 모두 끝남)
+    @Query(value = "SELECT txid_snapshot_xmin(txid_current_snapshot())", nativeQuery = true)
+    Long currentSnapshotXmin();
+
+    // 보관 기간이 지난 메시지 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation c WHERE c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
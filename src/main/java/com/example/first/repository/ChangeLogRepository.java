@@ -0,0 +1,36 @@
+package com.example.first.repository;
+
+import com.example.first.entity.ChangeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+
+    // 특정 트랜잭션 이후에 커밋이 끝난 변경 조회 (트랜잭션, 순번 오름차순)
+    // 진행 중인 트랜잭션 중 가장 오래된 것(snapshot xmin)보다 앞선 트랜잭션만 대상이며,
+    // limit 에서 끊긴 마지막 트랜잭션의 나머지 변경까지 함께 반환
+    @Query(value = "SELECT c.* FROM change_log c " +
+            "WHERE c.txid > :since AND c.txid < txid_snapshot_xmin(txid_current_snapshot()) " +
+            "AND c.txid <= (SELECT MAX(p.txid) FROM (SELECT txid FROM change_log " +
+            "    WHERE txid > :since AND txid < txid_snapshot_xmin(txid_current_snapshot()) " +
+            "    ORDER BY txid, id LIMIT :limit) p) " +
+            "ORDER BY c.txid, c.id", nativeQuery = true)
+    List<ChangeLog> findCommittedAfter(@Param("since") long since, @Param("limit") int limit);
+
+    // 특정 게시글(및 그 댓글)의 특정 트랜잭션 이후 커밋이 끝난 변경 조회
+    @Query(value = "SELECT c.* FROM change_log c " +
+            "WHERE c.article_id = :articleId AND c.txid > :since " +
+            "AND c.txid < txid_snapshot_xmin(txid_current_snapshot()) " +
+            "AND c.txid <= (SELECT MAX(p.txid) FROM (SELECT txid FROM change_log " +
+            "    WHERE article_id = :articleId AND txid > :since " +
+            "    AND txid < txid_snapshot_xmin(txid_current_snapshot()) " +
+            "    ORDER BY txid, id LIMIT :limit) p) " +
+            "ORDER BY c.txid, c.id", nativeQuery = true)
+    List<ChangeLog> findCommittedAfterForArticle(@Param("articleId") Long articleId,
+                                                 @Param("since") long since, @Param("limit") int limit);
+}
@@ -2,16 +2,79 @@ package com.example.first.repository;
 
 
 import com.example.first.entity.Comment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    // 특정 게시글의 모든 댓글 조회
-    @Query(value = "SELECT * FROM comment WHERE article_id = :articleId", nativeQuery = true)
+    // 특정 게시글의 모든 댓글 조회 (삭제 표시된 댓글/게시글 제외 - 네이티브 쿼리는 @SQLRestriction 미적용)
+    // path 순서 = 답글이 부모 아래에 오는 표시 순서
+    @Query(value = "SELECT c.* FROM comment c JOIN article a ON a.id = c.article_id " +
+            "WHERE c.article_id = :articleId AND c.deleted_at IS NULL AND a.deleted_at IS NULL " +
+            "ORDER BY c.path", nativeQuery = true)
     List<Comment> findByArticleId(Long articleId);
-    // 특정 닉네임의 모든 댓글 조회
-    @Query(value = "SELECT * FROM comment WHERE nickname = :nickname", nativeQuery = true)
+
+    // 최상위 댓글 경로 페이지 (after 경로 이후, path 순)
+    @Query(value = "SELECT path FROM comment WHERE article_id = :articleId AND deleted_at IS NULL " +
+            "AND depth = 0 AND path > :after ORDER BY path LIMIT :limit", nativeQuery = true)
+    List<String> findRootPaths(@Param("articleId") Long articleId, @Param("after") String after,
+                               @Param("limit") int limit);
+
+    // path 범위 (from, to) 의 댓글을 표시 순서로 조회 - 최상위 댓글 페이지 또는 하위 트리를 한 번에 가져옴
+    @Query(value = "SELECT c.* FROM comment c JOIN article a ON a.id = c.article_id " +
+            "WHERE c.article_id = :articleId AND c.deleted_at IS NULL AND a.deleted_at IS NULL " +
+            "AND c.path > :from AND c.path < :to AND c.depth <= :maxDepth " +
+            "ORDER BY c.path", nativeQuery = true)
+    List<Comment> findPathRange(@Param("articleId") Long articleId, @Param("from") String from,
+                                @Param("to") String to, @Param("maxDepth") int maxDepth);
+
+    // 사용자 활동 목록: 작성자의 댓글을 (작성일, id) 내림차순으로 (at, beforeId) 이전부터 조회 (키셋 페이지)
+    // createdAt <= :at 은 인덱스 idx_comment_author_created 의 탐색 시작점 (OR 조건만으로는 작성자의 모든 행을 읽음)
+    // 게시글 제목을 함께 가져오고, 삭제 표시된 게시글의 댓글은 게시글의 @SQLRestriction 으로 제외
+    @Query("SELECT c FROM Comment c JOIN FETCH c.article WHERE c.authorId = :authorId " +
+            "AND c.createdAt <= :at AND (c.createdAt < :at OR c.id < :beforeId) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findActivityBefore(@Param("authorId") Long authorId, @Param("at") LocalDateTime at,
+                                     @Param("beforeId") Long beforeId, Pageable pageable);
+
+    // 댓글의 게시글이 삭제 표시되지 않았는지 (댓글이 없으면 빈 값)
+    // 삭제 표시된 게시글의 댓글은 엔티티로 읽으면 게시글 연관을 찾지 못해 예외가 나므로 먼저 확인
+    @Query(value = "SELECT a.deleted_at IS NULL FROM comment c JOIN article a ON a.id = c.article_id " +
+            "WHERE c.id = :id AND c.deleted_at IS NULL", nativeQuery = true)
+    Optional<Boolean> findArticleLiveById(@Param("id") Long id);
+
+    // 특정 닉네임의 모든 댓글 조회 (삭제 표시된 댓글/게시글 제외)
+    @Query(value = "SELECT c.* FROM comment c JOIN article a ON a.id = c.article_id " +
+            "WHERE c.nickname = :nickname AND c.deleted_at IS NULL AND a.deleted_at IS NULL", nativeQuery = true)
     List<Comment> findByNickname(String nickname);
+
+    // 보관 테이블로 옮긴 게시글의 댓글 실제 삭제 (삭제 표시된 댓글 포함)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comment"))
+    @Query(value = "DELETE FROM comment WHERE article_id IN (:articleIds)", nativeQuery = true)
+    int deleteByArticleIds(@Param("articleIds") List<Long> articleIds);
+
+    // 삭제 표시 후 보관 기간이 지난 댓글 실제 삭제 (배치)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comment"))
+    @Query(value = "DELETE FROM comment WHERE id IN (" +
+            "SELECT id FROM comment WHERE deleted_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int purgeDeleted(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 삭제 표시된 게시글의 댓글 실제 삭제 (배치)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comment"))
+    @Query(value = "DELETE FROM comment WHERE id IN (" +
+            "SELECT c.id FROM comment c JOIN article a ON a.id = c.article_id " +
+            "WHERE a.deleted_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int purgeOfDeletedArticles(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
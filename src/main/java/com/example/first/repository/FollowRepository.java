@@ -0,0 +1,38 @@
+package com.example.first.repository;
+
+import com.example.first.entity.Follow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FollowRepository extends JpaRepository<Follow, Follow.Key> {
+
+    // 팔로우 추가 (이미 팔로우 중이면 0 반환)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_follow"))
+    @Query(value = "INSERT INTO user_follow (follower_id, followee_id, created_at) VALUES (:followerId, :followeeId, now()) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int follow(@Param("followerId") Long followerId, @Param("followeeId") Long followeeId);
+
+    // 팔로우 취소 (팔로우 중이 아니면 0 반환)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_follow"))
+    @Query(value = "DELETE FROM user_follow WHERE follower_id = :followerId AND followee_id = :followeeId",
+            nativeQuery = true)
+    int unfollow(@Param("followerId") Long followerId, @Param("followeeId") Long followeeId);
+
+    boolean existsByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
+
+    // 팔로우한 작성자 중 팔로워가 threshold 이상인 작성자 (분배하지 않으므로 피드 조회 시 직접 읽음)
+    @Query(value = "SELECT f.followee_id FROM user_follow f JOIN follower_count c ON c.user_id = f.followee_id " +
+            "WHERE f.follower_id = :followerId AND c.followers >= :threshold", nativeQuery = true)
+    List<Long> findPulledFolloweeIds(@Param("followerId") Long followerId, @Param("threshold") long threshold);
+}
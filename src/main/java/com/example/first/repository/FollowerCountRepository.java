@@ -0,0 +1,29 @@
+package com.example.first.repository;
+
+import com.example.first.entity.FollowerCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FollowerCountRepository extends JpaRepository<FollowerCount, Long> {
+
+    // 팔로워 수 증감 (행이 없으면 생성, 동시 팔로우에도 누락 없음)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "follower_count"))
+    @Query(value = "INSERT INTO follower_count (user_id, followers) VALUES (:userId, GREATEST(:delta, 0)) " +
+            "ON CONFLICT (user_id) DO UPDATE SET followers = GREATEST(follower_count.followers + :delta, 0)",
+            nativeQuery = true)
+    int adjust(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 팔로워 수 (영속성 컨텍스트가 아닌 DB 에서 읽음 - adjust 직후 확인용)
+    @Query("SELECT c.followers FROM FollowerCount c WHERE c.userId = :userId")
+    Optional<Long> findFollowers(@Param("userId") Long userId);
+}
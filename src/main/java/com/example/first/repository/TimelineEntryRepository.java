@@ -0,0 +1,77 @@
+package com.example.first.repository;
+
+import com.example.first.entity.TimelineEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, TimelineEntry.Key> {
+
+    // 사용자 피드를 (작성일, 게시글 id) 내림차순으로 (at, beforeId) 이전부터 limit 개 조회 (키셋 페이지)
+    // 행 비교라서 idx_timeline_entry_user_created 에서 (at, beforeId) 다음부터 바로 읽음
+    @Query(value = "SELECT * FROM timeline_entry WHERE user_id = :userId " +
+            "AND (created_at, article_id) < (:at, :beforeId) " +
+            "ORDER BY created_at DESC, article_id DESC LIMIT :limit", nativeQuery = true)
+    List<TimelineEntry> findPage(@Param("userId") Long userId, @Param("at") LocalDateTime at,
+                                 @Param("beforeId") Long beforeId, @Param("limit") int limit);
+
+    // 새 게시글을 작성자의 모든 팔로워 피드에 추가 (문장 하나로 분배)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "timeline_entry"))
+    @Query(value = "INSERT INTO timeline_entry (user_id, article_id, created_at) " +
+            "SELECT f.follower_id, a.id, a.created_at FROM article a " +
+            "JOIN user_follow f ON f.followee_id = a.author_id " +
+            "WHERE a.id = :articleId AND a.deleted_at IS NULL " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int fanOut(@Param("articleId") Long articleId);
+
+    // 팔로우 시작 시 작성자의 최근 게시글을 피드에 채움
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "timeline_entry"))
+    @Query(value = "INSERT INTO timeline_entry (user_id, article_id, created_at) " +
+            "SELECT :userId, a.id, a.created_at FROM article a " +
+            "WHERE a.author_id = :authorId AND a.deleted_at IS NULL " +
+            "ORDER BY a.created_at DESC LIMIT :limit " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int backfill(@Param("userId") Long userId, @Param("authorId") Long authorId, @Param("limit") int limit);
+
+    // 작성자의 최근 게시글을 모든 팔로워 피드에 채움 (분배를 다시 시작할 때)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "timeline_entry"))
+    @Query(value = "INSERT INTO timeline_entry (user_id, article_id, created_at) " +
+            "SELECT f.follower_id, a.id, a.created_at FROM user_follow f " +
+            "CROSS JOIN (SELECT id, created_at FROM article WHERE author_id = :authorId AND deleted_at IS NULL " +
+            "            ORDER BY created_at DESC LIMIT :limit) a " +
+            "WHERE f.followee_id = :authorId " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int backfillFollowers(@Param("authorId") Long authorId, @Param("limit") int limit);
+
+    // 팔로우 취소 시 작성자의 게시글을 피드에서 제거
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "timeline_entry"))
+    @Query(value = "DELETE FROM timeline_entry t USING article a " +
+            "WHERE t.user_id = :userId AND a.id = t.article_id AND a.author_id = :authorId", nativeQuery = true)
+    int removeAuthor(@Param("userId") Long userId, @Param("authorId") Long authorId);
+
+    // 피드 항목이 maxEntries 개를 넘는 사용자
+    @Query(value = "SELECT user_id FROM timeline_entry GROUP BY user_id HAVING COUNT(*) > :maxEntries",
+            nativeQuery = true)
+    List<Long> findOverfullUserIds(@Param("maxEntries") int maxEntries);
+
+    // 사용자 피드에서 최신 maxEntries 개 이후의 항목 삭제
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "timeline_entry"))
+    @Query(value = "DELETE FROM timeline_entry WHERE user_id = :userId AND (created_at, article_id) <= (" +
+            "SELECT created_at, article_id FROM timeline_entry WHERE user_id = :userId " +
+            "ORDER BY created_at DESC, article_id DESC OFFSET :maxEntries LIMIT 1)", nativeQuery = true)
+    int trimUser(@Param("userId") Long userId, @Param("maxEntries") int maxEntries);
+}
@@ -0,0 +1,14 @@
+package com.example.first.repository;
+
+import com.example.first.entity.User;
+
+import java.util.Optional;
+
+/**
+ * 사용자명(@NaturalId) 조회 - 2차 캐시의 자연 키 캐시를 사용
+ */
+public interface UserNaturalIdRepository {
+
+    // 사용자명으로 사용자 조회 (캐시 적중 시 DB 조회 없음)
+    Optional<User> findByUsername(String username);
+}
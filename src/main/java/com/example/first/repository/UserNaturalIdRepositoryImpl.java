@@ -0,0 +1,28 @@
+package com.example.first.repository;
+
+import com.example.first.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 파생 쿼리(SELECT ... WHERE username = ?)는 쿼리 캐시를 켜도 결과 목록만 캐시하므로
+ * Hibernate 자연 키 API 로 조회해서 자연 키 → id → 엔티티 모두 2차 캐시에서 찾음
+ */
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 세션을 꺼내 쓰므로 트랜잭션 필요 (읽기 전용 → 레플리카)
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+}
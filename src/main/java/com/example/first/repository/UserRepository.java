@@ -2,25 +2,50 @@ package com.example.first.repository;
 
 import com.example.first.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
 
-    // 사용자명으로 사용자 조회
-    Optional<User> findByUsername(String username);
+    // 사용자명으로 사용자 조회는 UserNaturalIdRepository (자연 키 캐시)
 
     // 이메일로 사용자 조회
     Optional<User> findByEmail(String email);
 
-    // 사용자명이 존재하는지 확인
+    // 사용자명이 존재하는지 확인 (쿼리 캐시 - users 테이블이 바뀔 때만 무효화)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = User.QUERY_CACHE_REGION)})
     boolean existsByUsername(String username);
 
     // 이메일이 존재하는지 확인
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = User.QUERY_CACHE_REGION)})
     boolean existsByEmail(String email);
 
     // 닉네임이 존재하는지 확인
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = User.QUERY_CACHE_REGION)})
     boolean existsByNickname(String nickname);
-}
\ No newline at end of file
+
+    // 사용자명, 이메일, 닉네임 중 하나라도 겹치는 사용자 조회 (회원가입 중복 검사를 한 번의 쿼리로 처리)
+    @Query("SELECT u FROM User u WHERE u.username = :username OR u.email = :email OR u.nickname = :nickname")
+    List<User> findConflicting(@Param("username") String username,
+                               @Param("email") String email,
+                               @Param("nickname") String nickname);
+
+    // 중복 확인용 필터 초기화를 위한 사용자명, 이메일, 닉네임 조회
+    @Query("SELECT u.username, u.email, u.nickname FROM User u")
+    List<Object[]> findAllIdentifiers();
+
+    // 자동완성 색인 초기화를 위한 닉네임 조회
+    @Query("SELECT u.nickname FROM User u")
+    List<String> findAllNicknames();
+}
@@ -0,0 +1,122 @@
+package com.example.first.service;
+
+import com.example.first.entity.ArchivedArticle;
+import com.example.first.entity.Article;
+import com.example.first.entity.ChangeLog;
+import com.example.first.entity.User;
+import com.example.first.event.ArticleChangedEvent;
+import com.example.first.repository.ArchivedCommentRepository;
+import com.example.first.repository.ArticleRepository;
+import com.example.first.repository.CommentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 오래된 게시글을 보관 테이블(archived_article, archived_comment)로 옮기는 작업
+ * - 자주 쓰는 article/comment 테이블과 인덱스를 최근 글 위주로 작게 유지
+ * - 보관된 글은 ArticleService.showAsDto/showWithViewCount, CommentService.comments 로 계속 조회 가능 (읽기 전용)
+ * - batch-size 개씩 별도 트랜잭션에서 옮김 (대상 게시글 행을 잠근 뒤 복사 → 원본 삭제)
+ * - 게시글은 본문을 CompressedTextConverter 로 압축해서 JDBC 배치 INSERT, 댓글은 INSERT ... SELECT 로 복사
+ * - 원본 삭제는 일반 삭제와 같이 변경 이력(change_log)과 ArticleChangedEvent(DELETED) 를 남김
+ */
+@Component
+@Slf4j
+public class ArticleArchiveJob {
+
+    private final ArticleRepository articleRepository;
+    private final CommentRepository commentRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
+    private final ChangeFeedService changeFeedService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final long olderThanDays;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ArticleArchiveJob(ArticleRepository articleRepository,
+                             CommentRepository commentRepository,
+                             ArchivedCommentRepository archivedCommentRepository,
+                             ChangeFeedService changeFeedService,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.archive.older-than-days:365}") long olderThanDays,
+                             @Value("${app.archive.batch-size:100}") int batchSize) {
+        this.articleRepository = articleRepository;
+        this.commentRepository = commentRepository;
+        this.archivedCommentRepository = archivedCommentRepository;
+        this.changeFeedService = changeFeedService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.olderThanDays = olderThanDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 0 5 * * SUN}")
+    public void archive() {
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(olderThanDays);
+        int total = 0;
+
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+        }
+
+        log.info("게시글 보관 완료: {}건 (작성일 {} 이전), {}ms", total, cutoff, System.currentTimeMillis() - start);
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Article> articles = articleRepository.findArchiveCandidates(cutoff, PageRequest.of(0, batchSize));
+        if (articles.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = articles.stream().map(Article::getId).collect(Collectors.toList());
+        // 보관할 본문 (지연 로딩 본문을 게시글마다 읽지 않도록 한 번에 조회)
+        Map<Long, String> contents = new HashMap<>();
+        for (Object[] row : articleRepository.findContents(ids)) {
+            contents.put((Long) row[0], (String) row[1]);
+        }
+
+        // 보관 테이블에 먼저 복사한 뒤 원본 삭제 (댓글 복사 전에 게시글 INSERT 를 배치로 flush)
+        LocalDateTime archivedAt = LocalDateTime.now();
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        for (Article article : articles) {
+            entityManager.persist(new ArchivedArticle(article, contents.get(article.getId()), archivedAt));
+        }
+        entityManager.flush();
+        archivedCommentRepository.copyFromComments(ids);
+        commentRepository.deleteByArticleIds(ids);
+        articleRepository.deleteArchived(ids);
+
+        // 일반 삭제와 같이 변경 이력 기록 + 이벤트 발행 (검색 캐시, 자동완성, 다른 서버의 2차 캐시 정리)
+        for (Article article : articles) {
+            User author = article.getAuthor();
+            changeFeedService.record(ChangeLog.EntityType.ARTICLE, article.getId(),
+                    article.getId(), ChangeLog.Operation.DELETE);
+            eventPublisher.publishEvent(new ArticleChangedEvent(ArticleChangedEvent.Type.DELETED,
+                    article.getId(), author.getId(), author.getNickname(),
+                    article.getTitle(), null, null));
+        }
+        return articles.size();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.first.service;
+
+import com.example.first.entity.Article;
+import com.example.first.event.CommentChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 댓글 수는 네이티브 UPDATE 로 바뀌어 Hibernate 가 게시글 2차 캐시를 갱신하지 않으므로
+ * 해당 게시글 항목만 캐시에서 제거 (다음 조회 때 DB 에서 다시 읽음)
+ * - UPDATE 전에 한 번: 이미 캐시된 옛 값이 커밋 전까지 계속 쓰이지 않도록
+ * - 커밋 후에 한 번: 커밋 전 다른 트랜잭션이 옛 값을 읽어 다시 넣은 항목 제거
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 댓글 수 변경 전에 호출 (CommentService)
+     */
+    public void evict(Long articleId) {
+        entityManagerFactory.getCache().evict(Article.class, articleId);
+        log.debug("게시글 2차 캐시 제거: {}", articleId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.getType() == CommentChangedEvent.Type.UPDATED || event.getArticleId() == null) {
+            return;
+        }
+        evict(event.getArticleId());
+    }
+}
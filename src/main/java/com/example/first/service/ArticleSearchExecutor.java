@@ -0,0 +1,150 @@
+package com.example.first.service;
+
+import com.example.first.config.ReplicationRoutingDataSource;
+import com.example.first.entity.Article;
+import com.example.first.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 통합 검색 (type=all)
+ * 제목, 내용, 작성자 닉네임 하위 쿼리를 동시에 실행하고 점수로 병합
+ * - 하위 쿼리마다 타임아웃이 있어 느린 쿼리가 있어도 나머지 결과로 응답
+ * - 하위 쿼리는 읽기 전용 트랜잭션(레플리카)에서 실행하고, 트랜잭션 제한 시간이 DB 쿼리 타임아웃으로 적용되어
+ *   호출자가 포기한 뒤에도 DB 가 계속 실행하지 않음
+ * - 검색 스레드 풀이 가득 차면 그 하위 쿼리는 건너뜀
+ * - 점수: 제목 > 작성자 > 내용, 여러 필드에 걸리면 합산 / 같은 점수는 최신순
+ * - 같은 게시글은 ID 로 중복 제거
+ * - 결과 캐시는 ArticleService.searchAll 에서 적용 (SearchResultCache.Type.ALL)
+ */
+@Service
+@Slf4j
+public class ArticleSearchExecutor {
+
+    enum Field {
+        TITLE(4), AUTHOR(2), CONTENT(1);
+
+        private final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final ArticleRepository articleRepository;
+    private final ThreadPoolTaskExecutor searchTaskExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long timeoutMillis;
+    private final int topK;
+
+    public ArticleSearchExecutor(ArticleRepository articleRepository,
+                                 @Qualifier("searchTaskExecutor") ThreadPoolTaskExecutor searchTaskExecutor,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.search.timeout-ms:1000}") long timeoutMillis,
+                                 @Value("${app.search.top-k:50}") int topK) {
+        this.articleRepository = articleRepository;
+        this.searchTaskExecutor = searchTaskExecutor;
+        // 읽기 전용 → 레플리카 라우팅, 제한 시간(초 단위 올림)은 JPA 쿼리 타임아웃으로 전달됨
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, (timeoutMillis + 999) / 1000));
+        this.timeoutMillis = timeoutMillis;
+        this.topK = topK;
+    }
+
+    /**
+     * 점수순으로 정렬된 게시글 (작성자 포함, 본문은 읽지 않음)
+     */
+    public List<Article> search(String keyword) {
+        long start = System.currentTimeMillis();
+        Pageable limit = PageRequest.of(0, topK);
+        // 호출한 스레드의 프라이머리 강제 여부를 검색 스레드에도 적용 (캐시 무효화 직후 조회)
+        boolean primary = ReplicationRoutingDataSource.isPrimaryForced();
+
+        Map<Field, CompletableFuture<List<Article>>> futures = new EnumMap<>(Field.class);
+        futures.put(Field.TITLE, submit(Field.TITLE, articleRepository::searchTitleWithAuthor, keyword, limit, primary));
+        futures.put(Field.AUTHOR, submit(Field.AUTHOR, articleRepository::searchAuthorNicknameWithAuthor, keyword, limit, primary));
+        futures.put(Field.CONTENT, submit(Field.CONTENT, articleRepository::searchContentWithAuthor, keyword, limit, primary));
+
+        // 점수 병합 (ID 기준 중복 제거)
+        Map<Long, Scored> merged = new LinkedHashMap<>();
+        futures.forEach((field, future) -> {
+            for (Article article : future.join()) {
+                merged.computeIfAbsent(article.getId(), id -> new Scored(article)).score += field.weight;
+            }
+        });
+
+        List<Article> result = merged.values().stream()
+                .sorted(Comparator.comparingInt((Scored s) -> s.score).reversed()
+                        .thenComparing(s -> s.article.getCreatedAt(), Comparator.reverseOrder()))
+                .limit(topK)
+                .map(s -> s.article)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        log.debug("통합 검색 완료: keyword={}, 결과={}건, {}ms", keyword, result.size(), System.currentTimeMillis() - start);
+        return result;
+    }
+
+    private CompletableFuture<List<Article>> submit(Field field,
+                                                    BiFunction<String, Pageable, List<Article>> query,
+                                                    String keyword, Pageable limit, boolean primary) {
+        CompletableFuture<List<Article>> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                if (!primary) {
+                    return readOnlyTransaction.execute(status -> query.apply(keyword, limit));
+                }
+                ReplicationRoutingDataSource.forcePrimary();
+                try {
+                    return readOnlyTransaction.execute(status -> query.apply(keyword, limit));
+                } finally {
+                    ReplicationRoutingDataSource.clearForcePrimary();
+                }
+            }, searchTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("검색 스레드 풀 포화로 하위 쿼리 생략: field={}, keyword={}", field, keyword);
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return future
+                .completeOnTimeout(null, timeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((articles, e) -> {
+                    if (e != null) {
+                        log.error("검색 하위 쿼리 실패: field={}, keyword={}", field, keyword, e);
+                        return List.of();
+                    }
+                    if (articles == null) {
+                        log.warn("검색 하위 쿼리 타임아웃: field={}, keyword={}, {}ms", field, keyword, timeoutMillis);
+                        return List.of();
+                    }
+                    return articles;
+                });
+    }
+
+    private static class Scored {
+        private final Article article;
+        private int score;
+
+        Scored(Article article) {
+            this.article = article;
+        }
+    }
+}
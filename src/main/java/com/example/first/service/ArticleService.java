@@ -1,17 +1,26 @@
 package com.example.first.service;
 
+import com.example.first.config.ReplicationRoutingDataSource;
 import com.example.first.dto.ArticleDto;
+import com.example.first.entity.ArchivedArticle;
 import com.example.first.entity.Article;
+import com.example.first.entity.ChangeLog;
 import com.example.first.entity.User;
+import com.example.first.event.ArticleChangedEvent;
+import com.example.first.repository.ArchivedArticleRepository;
 import com.example.first.repository.ArticleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,6 +29,11 @@ import java.util.stream.Collectors;
 public class ArticleService {
 
     private final ArticleRepository articleRepository;
+    private final ArchivedArticleRepository archivedArticleRepository;
+    private final ChangeFeedService changeFeedService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchResultCache searchResultCache;
+    private final ArticleSearchExecutor articleSearchExecutor;
 
     /**
      * 모든 게시글 조회
@@ -31,10 +45,11 @@ public class ArticleService {
     /**
      * 모든 게시글을 DTO로 조회
      */
+    @Transactional(readOnly = true)
     public List<ArticleDto> indexAsDto() {
         return articleRepository.findAll()
                 .stream()
-                .map(ArticleDto::from)
+                .map(ArticleDto::summaryOf)
                 .collect(Collectors.toList());
     }
 
@@ -48,9 +63,10 @@ public class ArticleService {
     /**
      * 특정 게시글 조회 (DTO)
      */
+    @Transactional(readOnly = true)
     public ArticleDto showAsDto(Long id) {
         Article article = articleRepository.findById(id).orElse(null);
-        return article != null ? ArticleDto.from(article) : null;
+        return article != null ? ArticleDto.from(article) : showArchived(id);
     }
 
     /**
@@ -64,7 +80,16 @@ public class ArticleService {
             article = articleRepository.save(article);
             return ArticleDto.from(article);
         }
-        return null;
+        return showArchived(id);
+    }
+
+    /**
+     * 보관된 게시글 조회 (읽기 전용, 조회수 증가 없음)
+     */
+    private ArticleDto showArchived(Long id) {
+        return archivedArticleRepository.findWithAuthorById(id)
+                .map(ArchivedArticle::toDto)
+                .orElse(null);
     }
 
     /**
@@ -83,6 +108,9 @@ public class ArticleService {
         // DTO를 엔티티로 변환
         Article article = articleDto.toEntity(author);
         Article savedArticle = articleRepository.save(article);
+        changeFeedService.record(ChangeLog.EntityType.ARTICLE, savedArticle.getId(),
+                savedArticle.getId(), ChangeLog.Operation.CREATE);
+        publishChanged(ArticleChangedEvent.Type.CREATED, savedArticle, null, null);
 
         log.info("게시글 생성 완료: ID={}", savedArticle.getId());
         return savedArticle;
@@ -109,6 +137,9 @@ public class ArticleService {
             return null;
         }
 
+        // 변경 전 제목 (이벤트 구독자의 증분 갱신용, 본문은 지연 로딩이므로 읽지 않음)
+        String previousTitle = target.getTitle();
+
         // 게시글 수정
         Article updateArticle = new Article();
         updateArticle.setTitle(articleDto.getTitle());
@@ -116,6 +147,9 @@ public class ArticleService {
 
         target.patch(updateArticle);
         Article savedArticle = articleRepository.save(target);
+        changeFeedService.record(ChangeLog.EntityType.ARTICLE, savedArticle.getId(),
+                savedArticle.getId(), ChangeLog.Operation.UPDATE);
+        publishChanged(ArticleChangedEvent.Type.UPDATED, savedArticle, previousTitle);
 
         log.info("게시글 수정 완료: ID={}", savedArticle.getId());
         return savedArticle;
@@ -142,8 +176,10 @@ public class ArticleService {
             return null;
         }
 
-        // 게시글 삭제
+        // 게시글 삭제 (삭제 표시만 하고 댓글과 함께 SoftDeletePurgeJob 이 나중에 실제 삭제)
         articleRepository.delete(target);
+        changeFeedService.record(ChangeLog.EntityType.ARTICLE, id, id, ChangeLog.Operation.DELETE);
+        publishChanged(ArticleChangedEvent.Type.DELETED, target, target.getTitle());
         log.info("게시글 삭제 완료: ID={}", id);
         return target;
     }
@@ -151,41 +187,95 @@ public class ArticleService {
     /**
      * 특정 사용자의 게시글 조회
      */
+    @Transactional(readOnly = true)
     public List<ArticleDto> findByAuthor(User author) {
         return articleRepository.findByAuthorOrderByCreatedAtDesc(author)
                 .stream()
-                .map(ArticleDto::from)
+                .map(ArticleDto::summaryOf)
                 .collect(Collectors.toList());
     }
 
     /**
      * 게시글 검색 (제목으로)
      */
+    @Transactional(readOnly = true)
     public List<ArticleDto> searchByTitle(String keyword) {
-        return articleRepository.findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(keyword)
-                .stream()
-                .map(ArticleDto::from)
-                .collect(Collectors.toList());
+        return cachedSearch(keyword, SearchResultCache.Type.TITLE,
+                articleRepository::findByTitleContainingIgnoreCaseOrderByCreatedAtDesc);
     }
 
     /**
      * 게시글 검색 (내용으로)
      */
+    @Transactional(readOnly = true)
     public List<ArticleDto> searchByContent(String keyword) {
-        return articleRepository.findByContentContainingIgnoreCaseOrderByCreatedAtDesc(keyword)
-                .stream()
-                .map(ArticleDto::from)
-                .collect(Collectors.toList());
+        return cachedSearch(keyword, SearchResultCache.Type.CONTENT,
+                articleRepository::findByContentContainingIgnoreCaseOrderByCreatedAtDesc);
     }
 
     /**
-     * 게시글 검색 (제목 또는 내용)
+     * 통합 검색 (type=all: 제목/내용/작성자 병렬 검색 후 점수순 병합)
      */
-    public List<ArticleDto> searchByTitleOrContent(String keyword) {
-        return articleRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseOrderByCreatedAtDesc(keyword, keyword)
-                .stream()
-                .map(ArticleDto::from)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<ArticleDto> searchAll(String keyword) {
+        return cachedSearch(keyword, SearchResultCache.Type.ALL, articleSearchExecutor::search);
+    }
+
+    /**
+     * 검색 결과 캐시를 거쳐 검색
+     * 캐시에는 게시글 ID만 저장하고, 적중 시 ID로 다시 읽어서 조회수 등은 항상 최신 값으로 반환
+     * 목록용이므로 본문 없이 변환 (본문 컬럼은 읽지 않음)
+     * 검색어는 캐시 키와 같은 정규화 값으로 조회 (SQL 도 UPPER 로 비교하므로 결과가 같음)
+     */
+    private List<ArticleDto> cachedSearch(String keyword, SearchResultCache.Type type,
+                                          Function<String, List<Article>> query) {
+        String normalized = SearchResultCache.normalize(keyword);
+        if (normalized.isEmpty()) {
+            return query.apply(keyword).stream().map(ArticleDto::summaryOf).collect(Collectors.toList());
+        }
+
+        List<Long> ids = searchResultCache.get(normalized, type);
+        if (ids != null) {
+            Map<Long, Article> articles = articleRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Article::getId, Function.identity()));
+            return ids.stream()
+                    .map(articles::get)
+                    .filter(Objects::nonNull)
+                    .map(ArticleDto::summaryOf)
+                    .collect(Collectors.toList());
+        }
+
+        long generation = searchResultCache.generation();
+        // 무효화 직후에는 레플리카가 아직 이전 데이터일 수 있으므로 프라이머리에서 조회해서 저장
+        boolean forcePrimary = searchResultCache.recentlyInvalidated() && !ReplicationRoutingDataSource.isPrimaryForced();
+        List<Article> articles;
+        if (forcePrimary) {
+            ReplicationRoutingDataSource.forcePrimary();
+        }
+        try {
+            articles = query.apply(normalized);
+        } finally {
+            if (forcePrimary) {
+                ReplicationRoutingDataSource.clearForcePrimary();
+            }
+        }
+        searchResultCache.put(normalized, type,
+                articles.stream().map(Article::getId).collect(Collectors.toList()), generation);
+        return articles.stream().map(ArticleDto::summaryOf).collect(Collectors.toList());
+    }
+
+    /**
+     * 게시글 변경 이벤트 발행 (구독자는 커밋 이후에 처리)
+     */
+    private void publishChanged(ArticleChangedEvent.Type type, Article article, String previousTitle) {
+        boolean deleted = type == ArticleChangedEvent.Type.DELETED;
+        User author = article.getAuthor();
+        eventPublisher.publishEvent(new ArticleChangedEvent(type, article.getId(),
+                author != null ? author.getId() : null,
+                author != null ? author.getNickname() : null,
+                previousTitle,
+                deleted ? null : article.getTitle(),
+                deleted ? null : article.getContent()));
     }
 
     /**
@@ -225,7 +315,12 @@ public class ArticleService {
                 .map(articleForm -> articleForm.toEntity(author))
                 .collect(Collectors.toList());
 
-        articleList.forEach(article -> articleRepository.save(article));
+        articleList.forEach(article -> {
+            articleRepository.save(article);
+            changeFeedService.record(ChangeLog.EntityType.ARTICLE, article.getId(),
+                    article.getId(), ChangeLog.Operation.CREATE);
+            publishChanged(ArticleChangedEvent.Type.CREATED, article, null, null);
+        });
 
         return articleList;
     }
@@ -0,0 +1,50 @@
+package com.example.first.service;
+
+import com.example.first.dto.ChangeDto;
+import com.example.first.dto.ChangeFeedDto;
+import com.example.first.entity.ChangeLog;
+import com.example.first.repository.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final ChangeLogRepository changeLogRepository;
+
+    /**
+     * 변경 기록 (호출한 서비스의 트랜잭션 안에서 함께 커밋/롤백)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeLog.EntityType entityType, Long entityId, Long articleId, ChangeLog.Operation operation) {
+        changeLogRepository.save(new ChangeLog(entityType, entityId, articleId, operation));
+    }
+
+    /**
+     * since(트랜잭션 ID) 이후의 변경 조회
+     * 순번은 INSERT 시점에 정해지지만 커밋 순서는 다를 수 있으므로, 늦게 커밋된 변경을 건너뛰지 않도록
+     * 진행 중인 트랜잭션보다 앞선 트랜잭션의 변경만 트랜잭션 단위로 반환 (limit 을 넘더라도 트랜잭션을 나누지 않음)
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedDto changesSince(Long articleId, long since, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<ChangeLog> changes = articleId == null
+                ? changeLogRepository.findCommittedAfter(since, size)
+                : changeLogRepository.findCommittedAfterForArticle(articleId, since, size);
+
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getTxid();
+        List<ChangeDto> dtos = changes.stream()
+                .map(ChangeDto::createDto)
+                .collect(Collectors.toList());
+        return new ChangeFeedDto(dtos, nextSince, changes.size() >= size);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.first.service;
+
+import com.example.first.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시글 댓글 수(comment_count) 재계산 작업
+ * 평소에는 CommentService 가 +1/-1 로 유지하고, 이 작업은 직접 DB 수정 등으로 어긋난 값을 바로잡음
+ * - id 순으로 batch-size 개씩 별도 트랜잭션에서 처리 (긴 잠금 방지)
+ * - 배치의 게시글 행을 먼저 잠근 뒤 세므로, 진행 중인 댓글 트랜잭션의 +1/-1 과 겹쳐도 값이 맞음
+ */
+@Component
+@Slf4j
+public class CommentCountRepairJob {
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public CommentCountRepairJob(ArticleRepository articleRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.comment-count.repair-batch-size:500}") int batchSize) {
+        this.articleRepository = articleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.comment-count.repair-cron:0 30 4 * * *}")
+    public void repair() {
+        long start = System.currentTimeMillis();
+        long afterId = 0;
+        int checked = 0;
+        int repaired = 0;
+
+        while (true) {
+            long cursor = afterId;
+            BatchResult result = transactionTemplate.execute(status -> {
+                List<Long> ids = articleRepository.lockIdsAfter(cursor, batchSize);
+                if (ids.isEmpty()) {
+                    return new BatchResult(cursor, 0, 0);
+                }
+                int updated = articleRepository.recountComments(ids);
+                return new BatchResult(ids.get(ids.size() - 1), ids.size(), updated);
+            });
+            if (result == null || result.size() == 0) {
+                break;
+            }
+            afterId = result.lastId();
+            checked += result.size();
+            repaired += result.updated();
+        }
+
+        if (repaired > 0) {
+            log.warn("댓글 수 불일치 보정: {}건 / {}건, {}ms", repaired, checked, System.currentTimeMillis() - start);
+        } else {
+            log.info("댓글 수 확인 완료: {}건, {}ms", checked, System.currentTimeMillis() - start);
+        }
+    }
+
+    private record BatchResult(long lastId, int size, int updated) {
+    }
+}
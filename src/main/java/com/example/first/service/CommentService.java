@@ -1,11 +1,19 @@
 package com.example.first.service;
 
 import com.example.first.dto.CommentDto;
+import com.example.first.dto.CommentThreadDto;
+import com.example.first.entity.ArchivedComment;
 import com.example.first.entity.Article;
+import com.example.first.entity.ChangeLog;
 import com.example.first.entity.Comment;
+import com.example.first.entity.User;
+import com.example.first.event.CommentChangedEvent;
+import com.example.first.repository.ArchivedArticleRepository;
+import com.example.first.repository.ArchivedCommentRepository;
 import com.example.first.repository.ArticleRepository;
 import com.example.first.repository.CommentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,12 +22,28 @@ import java.util.stream.Collectors;
 
 @Service
 public class CommentService {
+
+    private static final int MAX_THREAD_PAGE_SIZE = 100;
+    // path 의 숫자보다 큰 문자 (범위 조회의 상한: 접두사 + PATH_END)
+    private static final String PATH_END = "~";
+
     @Autowired
     private CommentRepository commentRepository;
     @Autowired
     private ArticleRepository articleRepository;
+    @Autowired
+    private ArchivedArticleRepository archivedArticleRepository;
+    @Autowired
+    private ArchivedCommentRepository archivedCommentRepository;
+    @Autowired
+    private ChangeFeedService changeFeedService;
+    @Autowired
+    private ArticleCacheEvictor articleCacheEvictor;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
-    // 댓글 조회
+    // 댓글 조회 (읽기 전용 - 레플리카 사용)
+    @Transactional(readOnly = true)
     public List<CommentDto> comments(Long articleId) {
         /*// 댓글 조회
         List<Comment> comments = commentRepository.findByArticleId(articleId);
@@ -31,51 +55,144 @@ public class CommentService {
         });
         // 결과 반환
         return commentDtos;*/
-        return commentRepository.findByArticleId(articleId)
+        List<CommentDto> comments = commentRepository.findByArticleId(articleId)
                 .stream()
                 .map(comment -> CommentDto.createDto(comment))
                 .collect(Collectors.toList());
+        if (!comments.isEmpty() || !archivedArticleRepository.existsById(articleId)) {
+            return comments;
+        }
+        // 보관된 게시글이면 보관 테이블에서 조회
+        return archivedCommentRepository.findByArticleIdOrderByPathAsc(articleId)
+                .stream()
+                .map(ArchivedComment::toDto)
+                .collect(Collectors.toList());
 
     }
 
+    /**
+     * 최상위 댓글 단위 페이지 조회 (after: 이전 페이지의 마지막 최상위 댓글 ID, maxDepth: 포함할 최대 답글 깊이)
+     * 최상위 댓글 경로를 size 개 찾은 뒤, 그 범위의 댓글과 답글을 path 범위 조회 한 번으로 표시 순서대로 가져옴
+     * 범위가 페이지끼리 이어지므로 삭제된 최상위 댓글 아래에 남은 답글도 빠지지 않음
+     */
+    @Transactional(readOnly = true)
+    public CommentThreadDto threads(Long articleId, Long after, int size, int maxDepth) {
+        int pageSize = Math.max(1, Math.min(size, MAX_THREAD_PAGE_SIZE));
+        String from = after == null ? "" : Comment.segment(after) + PATH_END;
+        List<String> roots = commentRepository.findRootPaths(articleId, from, pageSize + 1);
+        if (roots.isEmpty()) {
+            return new CommentThreadDto(List.of(), after, false);
+        }
+
+        boolean hasMore = roots.size() > pageSize;
+        String lastRoot = roots.get(Math.min(roots.size(), pageSize) - 1);
+        String to = hasMore ? lastRoot + PATH_END : PATH_END;
+        List<CommentDto> comments = commentRepository.findPathRange(articleId, from, to,
+                        Math.max(0, Math.min(maxDepth, Comment.MAX_DEPTH)))
+                .stream()
+                .map(CommentDto::createDto)
+                .collect(Collectors.toList());
+        return new CommentThreadDto(comments, Long.valueOf(lastRoot), hasMore);
+    }
+
+    /**
+     * 댓글의 답글 트리 조회 (자신 제외, 자신으로부터 maxDepth 단계까지, 표시 순서)
+     */
+    @Transactional(readOnly = true)
+    public List<CommentDto> replies(Long id, int maxDepth) {
+        Comment comment = findLiveComment(id, "답글 조회 실패.");
+        return commentRepository.findPathRange(comment.getArticle().getId(), comment.getPath(),
+                        comment.getPath() + PATH_END, comment.getDepth() + Math.max(0, maxDepth))
+                .stream()
+                .map(CommentDto::createDto)
+                .collect(Collectors.toList());
+    }
+
     // 댓글 생성
     @Transactional
     public CommentDto create(Long articleId, CommentDto commentDto) {
+        return create(articleId, commentDto, null);
+    }
+
+    // 댓글 생성 (author: 로그인한 작성자, 활동 목록에 작성자 ID 로 연결)
+    @Transactional
+    public CommentDto create(Long articleId, CommentDto commentDto, User author) {
         // 게시글 조회 및 예외 발생
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글 생성 실패 " + articleId
                 + " 게시글을 찾을 수 없습니다."));
+        // 답글이면 부모 댓글 조회
+        Comment parent = commentDto.getParentId() == null ? null
+                : findLiveComment(commentDto.getParentId(), "댓글 생성 실패. 부모 댓글:");
         // 댓글 엔티티 생성
-        Comment comment = Comment.create(commentDto, article);
-        // 댓글 엔티티를 DB에 저장
+        Comment comment = Comment.create(commentDto, article, parent);
+        if (author != null) {
+            comment.setAuthorId(author.getId());
+        }
+        // 댓글 엔티티를 DB에 저장 (id 가 정해진 뒤 경로 완성)
         Comment savedComment = commentRepository.save(comment);
-        // DTO로 변환해 반환
-        return CommentDto.createDto(savedComment);
+        savedComment.assignPath();
+        // 게시글 댓글 수 +1 (같은 트랜잭션, 캐시는 변경 전과 커밋 후에 제거)
+        articleCacheEvictor.evict(articleId);
+        articleRepository.adjustCommentCount(articleId, 1);
+        // 변경 이력 기록 (같은 트랜잭션)
+        changeFeedService.record(ChangeLog.EntityType.COMMENT, savedComment.getId(),
+                articleId, ChangeLog.Operation.CREATE);
+        // DTO로 변환해 반환 (커밋 후 스트림 구독자에게 전달)
+        CommentDto createdDto = CommentDto.createDto(savedComment);
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.CREATED, articleId, createdDto));
+        return createdDto;
     }
 
     // 댓글 수정
     @Transactional
     public CommentDto update(Long id, CommentDto commentDto) {
         // 댓글 조회 및 예외 발생
-        Comment target = commentRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("댓글 수정 실패. 대상 댓글이 없습니다."));
+        Comment target = findLiveComment(id, "댓글 수정 실패.");
         // 댓글 수정
         target.patch(commentDto);
         // DB 갱신
         Comment updatedComment = commentRepository.save(target);
-        // 댓글 엔티티를 DTO로 변환해 반환
-        return CommentDto.createDto(updatedComment);
+        // 변경 이력 기록 (같은 트랜잭션)
+        changeFeedService.record(ChangeLog.EntityType.COMMENT, updatedComment.getId(),
+                updatedComment.getArticle().getId(), ChangeLog.Operation.UPDATE);
+        // 댓글 엔티티를 DTO로 변환해 반환 (커밋 후 스트림 구독자에게 전달)
+        CommentDto updatedDto = CommentDto.createDto(updatedComment);
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.UPDATED,
+                updatedDto.getArticleId(), updatedDto));
+        return updatedDto;
     }
 
     // 댓글 삭제
     @Transactional
     public CommentDto delete(Long id) {
         // 댓글 조회 및 예외 발생
-        Comment comment = commentRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("댓글 삭제 실패. 대상이 없습니다."));
+        Comment comment = findLiveComment(id, "댓글 삭제 실패.");
         // 댓글 삭제
         commentRepository.delete(comment);
-        // 삭제 댓글을 DTO로 변환해 반환
-        return CommentDto.createDto(comment);
+        // 게시글 댓글 수 -1 (같은 트랜잭션, 캐시는 변경 전과 커밋 후에 제거)
+        articleCacheEvictor.evict(comment.getArticle().getId());
+        articleRepository.adjustCommentCount(comment.getArticle().getId(), -1);
+        // 변경 이력 기록 (같은 트랜잭션)
+        changeFeedService.record(ChangeLog.EntityType.COMMENT, comment.getId(),
+                comment.getArticle().getId(), ChangeLog.Operation.DELETE);
+        // 삭제 댓글을 DTO로 변환해 반환 (커밋 후 스트림 구독자에게 전달)
+        CommentDto deletedDto = CommentDto.createDto(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.DELETED,
+                deletedDto.getArticleId(), deletedDto));
+        return deletedDto;
+    }
+
+    /**
+     * 게시글이 삭제 표시되지 않은 댓글 조회 (없거나 게시글이 삭제되었으면 IllegalArgumentException)
+     */
+    private Comment findLiveComment(Long id, String action) {
+        boolean articleLive = commentRepository.findArticleLiveById(id)
+                .orElseThrow(() -> new IllegalArgumentException(action + " 대상 댓글이 없습니다."));
+        if (!articleLive) {
+            throw new IllegalArgumentException(action + " 삭제된 게시글의 댓글입니다.");
+        }
+        return commentRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException(action + " 대상 댓글이 없습니다."));
     }
 }
@@ -0,0 +1,261 @@
+package com.example.first.service;
+
+import com.example.first.event.CommentChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글별 댓글 변경을 SSE 로 전달하는 허브
+ * - 발행은 구독자별 버퍼에 넣기만 하므로 커밋한 스레드를 막지 않음
+ * - 전송은 구독자별로 한 번에 하나씩 가상 스레드에서 처리 (응답 쓰기가 막혀도 다른 구독자는 영향 없음)
+ * - 버퍼가 가득 찬(느린) 구독자, 한 번의 전송이 write-timeout-ms 를 넘긴 구독자는 연결을 끊음
+ *   (클라이언트는 재연결 후 /changes 로 누락분을 동기화)
+ * - 연결 종료(complete)는 막힌 전송과 같은 잠금을 기다릴 수 있으므로 발행/스케줄러 스레드에서 호출하지 않음
+ */
+@Component
+@Slf4j
+public class CommentStreamHub {
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeat;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+    private final long writeTimeoutMillis;
+
+    public CommentStreamHub(ObjectMapper objectMapper,
+                            @Value("${app.comment-stream.buffer-size:32}") int bufferSize,
+                            @Value("${app.comment-stream.timeout-ms:1800000}") long timeoutMillis,
+                            @Value("${app.comment-stream.max-subscribers:10000}") int maxSubscribers,
+                            @Value("${app.comment-stream.write-timeout-ms:10000}") long writeTimeoutMillis,
+                            @Value("${app.comment-stream.heartbeat-seconds:20}") long heartbeatSeconds) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+        // 전송(블로킹 응답 쓰기)은 구독자마다 가상 스레드에서 - 멈춘 클라이언트가 공용 스레드를 붙잡지 않음
+        this.dispatcher = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("comment-stream-", 0).factory());
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("comment-stream-heartbeat-"));
+        // 끊어진 연결을 찾아내고 프록시의 유휴 연결 종료를 막기 위한 주기적 주석 이벤트
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        // 전송이 멈춘 구독자 정리
+        long checkMillis = Math.max(500, writeTimeoutMillis / 2);
+        this.heartbeat.scheduleAtFixedRate(this::closeStalled, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 게시글 댓글 스트림 구독
+     */
+    public SseEmitter subscribe(Long articleId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            log.warn("댓글 스트림 구독자 수 초과: 게시글ID={}", articleId);
+            emitter.complete();
+            return emitter;
+        }
+
+        Subscriber subscriber = new Subscriber(articleId, emitter, bufferSize);
+        subscribers.computeIfAbsent(articleId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    /**
+     * 댓글 변경이 커밋된 뒤에만 전달 (롤백된 변경은 보내지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.getArticleId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        String data;
+        try {
+            // 구독자 수와 관계없이 직렬화는 한 번만
+            data = objectMapper.writeValueAsString(event.getComment());
+        } catch (JsonProcessingException e) {
+            log.error("댓글 이벤트 직렬화 실패: {}", event, e);
+            return;
+        }
+
+        Message message = new Message(event.getType().name().toLowerCase(Locale.ROOT), data);
+        for (Subscriber subscriber : targets) {
+            enqueue(subscriber, message);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void sendHeartbeat() {
+        Message ping = new Message(null, null);
+        subscribers.values().forEach(set -> set.forEach(subscriber -> enqueue(subscriber, ping)));
+    }
+
+    /**
+     * 한 번의 전송이 write-timeout-ms 를 넘긴 구독자는 더 이상 메시지를 받지 않도록 제거하고 연결 종료
+     */
+    private void closeStalled() {
+        long now = System.currentTimeMillis();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> {
+            long since = subscriber.sendingSince;
+            if (since != 0 && now - since > writeTimeoutMillis) {
+                log.debug("전송이 멈춘 댓글 스트림 구독자 연결 종료: 게시글ID={}", subscriber.articleId);
+                close(subscriber, new IOException("SSE write timeout"));
+            }
+        }));
+    }
+
+    private void enqueue(Subscriber subscriber, Message message) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.buffer.offer(message)) {
+            // 느린 구독자: 버퍼가 가득 차면 연결 종료
+            log.debug("느린 댓글 스트림 구독자 연결 종료: 게시글ID={}", subscriber.articleId);
+            close(subscriber, null);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Message message;
+            while ((message = subscriber.buffer.poll()) != null) {
+                if (subscriber.closed.get()) {
+                    return;
+                }
+                subscriber.sendingSince = System.currentTimeMillis();
+                try {
+                    subscriber.emitter.send(message.toEvent());
+                } catch (IOException | IllegalStateException e) {
+                    remove(subscriber);
+                    subscriber.emitter.completeWithError(e);
+                    return;
+                } finally {
+                    subscriber.sendingSince = 0;
+                }
+            }
+            subscriber.draining.set(false);
+            // 플래그를 내린 사이에 들어온 메시지가 있으면 이어서 처리
+            if (subscriber.buffer.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 구독자를 제거하고 연결 종료
+     * 진행 중인 전송이 막혀 있으면 complete 도 같은 잠금에서 기다리므로, 호출한 스레드가 아닌 전송용 가상 스레드에서 종료
+     * (진행 중이던 drain 은 전송이 끝난 뒤 closed 를 보고 멈춤)
+     */
+    private void close(Subscriber subscriber, Throwable error) {
+        if (!remove(subscriber)) {
+            return;
+        }
+        subscriber.buffer.clear();
+        dispatcher.execute(() -> {
+            if (error == null) {
+                subscriber.emitter.complete();
+            } else {
+                subscriber.emitter.completeWithError(error);
+            }
+        });
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.articleId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        return true;
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class Subscriber {
+        private final Long articleId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Message> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 진행 중인 전송의 시작 시각 (전송 중이 아니면 0)
+        private volatile long sendingSince;
+
+        Subscriber(Long articleId, SseEmitter emitter, int bufferSize) {
+            this.articleId = articleId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    private static class Message {
+        private final String name;
+        private final String data;
+
+        Message(String name, String data) {
+            this.name = name;
+            this.data = data;
+        }
+
+        // SseEventBuilder 는 한 번만 build 할 수 있으므로 구독자마다 새로 생성
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.first.service;
+
+import com.example.first.config.ReplicationRoutingDataSource;
+import com.example.first.entity.CacheInvalidation;
+import com.example.first.repository.CacheInvalidationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * cache_invalidation 테이블을 통한 무효화 전달 (기본)
+ * - 기록: 변경 트랜잭션 안에서 엔티티 변경을 먼저 flush 한 뒤 INSERT
+ *   (같은 엔티티를 바꾸는 트랜잭션은 행 잠금으로 줄을 서므로 id 가 커밋 순서대로 매겨짐)
+ * - 조회: poll-ms 마다 마지막으로 읽은 트랜잭션 ID(txid) 이후, 진행 중인 트랜잭션보다 앞선 트랜잭션의 메시지만 읽음
+ *   id 는 INSERT 순서라 커밋 순서와 다를 수 있으므로 커서로 쓰지 않고, 앱 서버 시계도 쓰지 않음
+ *   (늦게 커밋된 트랜잭션은 끝날 때까지 커서가 그 앞에서 기다림, 중복은 버전으로 걸러냄)
+ * 레플리카 지연으로 늦게 보이지 않도록 조회는 프라이머리에서 함
+ */
+@Component
+@ConditionalOnProperty(name = "app.near-cache.transport", havingValue = "db", matchIfMissing = true)
+@Slf4j
+public class DbInvalidationTransport implements InvalidationTransport {
+
+    private final CacheInvalidationRepository repository;
+    private final List<Consumer<List<Message>>> consumers = new CopyOnWriteArrayList<>();
+    private final long retentionMillis;
+    private final int batchSize;
+    private volatile long lastTxid;
+    private volatile LocalDateTime lastPurge = LocalDateTime.now();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public DbInvalidationTransport(CacheInvalidationRepository repository,
+                                   @Value("${app.near-cache.db.retention-minutes:60}") long retentionMinutes,
+                                   @Value("${app.near-cache.db.batch-size:1000}") int batchSize) {
+        this.repository = repository;
+        this.retentionMillis = retentionMinutes * 60_000;
+        this.batchSize = batchSize;
+        // 시작 이전에 끝난 트랜잭션의 메시지는 필요 없음 (캐시가 비어 있음)
+        // 확인할 수 없으면 보관 중인 메시지를 처음부터 읽음 (중복 적용은 버전으로 걸러짐)
+        this.lastTxid = initialTxid();
+    }
+
+    private long initialTxid() {
+        ReplicationRoutingDataSource.forcePrimary();
+        try {
+            Long xmin = repository.currentSnapshotXmin();
+            return xmin != null ? xmin - 1 : 0;
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 조회 시작 위치 확인 실패, 처음부터 조회: {}", e.getMessage());
+            return 0;
+        } finally {
+            ReplicationRoutingDataSource.clearForcePrimary();
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(CacheInvalidation.EntityType type, Long entityId, String origin) {
+        entityManager.flush();
+        repository.save(new CacheInvalidation(type, entityId, origin));
+    }
+
+    @Override
+    public void subscribe(Consumer<List<Message>> consumer) {
+        consumers.add(consumer);
+    }
+
+    @Scheduled(fixedDelayString = "${app.near-cache.db.poll-ms:1000}")
+    public void poll() {
+        ReplicationRoutingDataSource.forcePrimary();
+        try {
+            while (true) {
+                List<CacheInvalidation> rows = repository.findCommittedAfter(lastTxid, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Message> messages = rows.stream()
+                        .map(row -> new Message(row.getEntityType(), row.getEntityId(), row.getId(), row.getOrigin()))
+                        .toList();
+                consumers.forEach(consumer -> consumer.accept(messages));
+                // 트랜잭션 단위로 읽으므로 마지막 행의 트랜잭션까지 모두 처리됨
+                lastTxid = rows.get(rows.size() - 1).getTxid();
+                if (rows.size() < batchSize) {
+                    break;
+                }
+            }
+            purgeIfDue();
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지 조회 실패: {}", e.getMessage());
+        } finally {
+            ReplicationRoutingDataSource.clearForcePrimary();
+        }
+    }
+
+    // 보관 기간이 지난 메시지 정리 (1분에 한 번)
+    private void purgeIfDue() {
+        LocalDateTime now = LocalDateTime.now();
+        if (lastPurge.plusMinutes(1).isAfter(now)) {
+            return;
+        }
+        lastPurge = now;
+        int deleted = repository.deleteOlderThan(now.minusNanos(retentionMillis * 1_000_000));
+        if (deleted > 0) {
+            log.debug("캐시 무효화 메시지 정리: {}건", deleted);
+        }
+    }
+}
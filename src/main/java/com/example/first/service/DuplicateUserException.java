@@ -0,0 +1,68 @@
+package com.example.first.service;
+
+import com.example.first.entity.User;
+import lombok.Getter;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 회원가입 시 사용자명, 이메일, 닉네임 중복 예외
+ * 어떤 필드가 중복인지(field)를 함께 전달해서 폼의 해당 필드에 에러를 표시할 수 있게 함
+ */
+@Getter
+public class DuplicateUserException extends IllegalArgumentException {
+
+    // PostgreSQL 상세 메시지 예: Key (email)=(a@b.com) already exists.
+    private static final Pattern KEY_COLUMN = Pattern.compile("key \\((\\w+)\\)");
+
+    private final String field;
+
+    public DuplicateUserException(String field) {
+        super(messageOf(field));
+        this.field = field;
+    }
+
+    /**
+     * 유니크 제약조건 위반을 필드 에러로 변환
+     * 제약조건 이름을 우선 사용하고, 없으면 DB 상세 메시지의 컬럼명을 사용
+     */
+    public static DuplicateUserException from(DataIntegrityViolationException e) {
+        String field = null;
+
+        if (e.getCause() instanceof ConstraintViolationException cve && cve.getConstraintName() != null) {
+            field = fieldOfConstraint(cve.getConstraintName().toLowerCase(Locale.ROOT));
+        }
+
+        if (field == null && e.getMostSpecificCause().getMessage() != null) {
+            Matcher matcher = KEY_COLUMN.matcher(e.getMostSpecificCause().getMessage().toLowerCase(Locale.ROOT));
+            if (matcher.find()) {
+                field = fieldOfConstraint(matcher.group(1));
+            }
+        }
+
+        return new DuplicateUserException(field);
+    }
+
+    private static String fieldOfConstraint(String name) {
+        if (name.equals(User.UK_USERNAME) || name.equals("username")) return "username";
+        if (name.equals(User.UK_EMAIL) || name.equals("email")) return "email";
+        if (name.equals(User.UK_NICKNAME) || name.equals("nickname")) return "nickname";
+        return null;
+    }
+
+    private static String messageOf(String field) {
+        if (field == null) return "이미 존재하는 사용자 정보입니다.";
+        switch (field) {
+            case "username":
+                return "이미 존재하는 사용자명입니다.";
+            case "email":
+                return "이미 존재하는 이메일입니다.";
+            default:
+                return "이미 존재하는 닉네임입니다.";
+        }
+    }
+}
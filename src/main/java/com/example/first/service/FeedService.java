@@ -0,0 +1,287 @@
+package com.example.first.service;
+
+import com.example.first.dto.ArticleDto;
+import com.example.first.dto.FeedPageDto;
+import com.example.first.entity.Article;
+import com.example.first.entity.TimelineEntry;
+import com.example.first.entity.User;
+import com.example.first.event.ArticleChangedEvent;
+import com.example.first.event.FanOutResumedEvent;
+import com.example.first.repository.ArticleRepository;
+import com.example.first.repository.FollowRepository;
+import com.example.first.repository.FollowerCountRepository;
+import com.example.first.repository.TimelineEntryRepository;
+import com.example.first.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 팔로우한 작성자의 게시글 피드 (쓰기 시점 분배 + 팔로워가 많은 작성자는 읽기 시점 조회)
+ * - 게시글이 커밋되면 작성자의 팔로워 피드(timeline_entry)에 INSERT ... SELECT 한 번으로 추가 (feedTaskExecutor 에서 비동기)
+ * - 팔로워가 fanout-limit 이상인 작성자는 분배하지 않고, 피드 조회 시 그 작성자들의 게시글을 직접 읽어 병합
+ * - 팔로워가 다시 기준 아래로 내려가면 그동안 분배하지 않은 최근 게시글(backfill-size 개)을 팔로워 피드에 채움
+ * - 피드 조회는 타임라인 size+1 건 + 직접 조회 size+1 건을 (작성일, id) 키셋으로 읽으므로 팔로우 수와 무관
+ * 작성자가 기준을 넘기 전에 분배된 게시글은 양쪽에서 읽힐 수 있어 병합 시 중복 제거
+ */
+@Service
+@Slf4j
+public class FeedService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    // 첫 페이지의 기준 시각 (모든 게시글보다 늦은 시각)
+    private static final LocalDateTime FIRST_PAGE_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    static final Comparator<ArticleDto> ORDER = Comparator
+            .comparing(ArticleDto::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(ArticleDto::getId, Comparator.reverseOrder());
+
+    private final FollowRepository followRepository;
+    private final FollowerCountRepository followerCountRepository;
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate fanOutTransaction;
+    private final long fanOutLimit;
+    private final int backfillSize;
+
+    public FeedService(FollowRepository followRepository,
+                       FollowerCountRepository followerCountRepository,
+                       TimelineEntryRepository timelineEntryRepository,
+                       ArticleRepository articleRepository,
+                       UserRepository userRepository,
+                       ApplicationEventPublisher eventPublisher,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.feed.fanout-limit:10000}") long fanOutLimit,
+                       @Value("${app.feed.backfill-size:20}") int backfillSize) {
+        this.followRepository = followRepository;
+        this.followerCountRepository = followerCountRepository;
+        this.timelineEntryRepository = timelineEntryRepository;
+        this.articleRepository = articleRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        // 게시글 트랜잭션이 커밋된 뒤 실행되므로 새 트랜잭션에서 분배
+        this.fanOutTransaction = new TransactionTemplate(transactionManager);
+        this.fanOutTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.fanOutLimit = fanOutLimit;
+        this.backfillSize = backfillSize;
+    }
+
+    /**
+     * 팔로우 (최근 게시글 backfill-size 개를 피드에 채움, 이미 팔로우 중이면 그대로)
+     */
+    @Transactional
+    public void follow(User follower, Long followeeId) {
+        if (follower.getId().equals(followeeId)) {
+            throw new IllegalArgumentException("자기 자신은 팔로우할 수 없습니다.");
+        }
+        if (!userRepository.existsById(followeeId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + followeeId);
+        }
+        if (followRepository.follow(follower.getId(), followeeId) == 0) {
+            return;
+        }
+        followerCountRepository.adjust(followeeId, 1);
+        if (!isPulled(followeeId)) {
+            timelineEntryRepository.backfill(follower.getId(), followeeId, backfillSize);
+        }
+        log.info("팔로우: {} -> {}", follower.getId(), followeeId);
+    }
+
+    /**
+     * 팔로우 취소 (피드에서 그 작성자의 게시글 제거)
+     * 팔로워 수가 기준 아래로 내려가면 커밋 후 다른 팔로워들의 피드를 채움 (FanOutResumedEvent)
+     */
+    @Transactional
+    public void unfollow(User follower, Long followeeId) {
+        if (followRepository.unfollow(follower.getId(), followeeId) == 0) {
+            return;
+        }
+        followerCountRepository.adjust(followeeId, -1);
+        timelineEntryRepository.removeAuthor(follower.getId(), followeeId);
+        // adjust 가 행을 잠근 채로 읽으므로 동시에 취소해도 기준을 지나는 트랜잭션은 하나뿐
+        if (followers(followeeId) == fanOutLimit - 1) {
+            eventPublisher.publishEvent(new FanOutResumedEvent(followeeId));
+        }
+        log.info("팔로우 취소: {} -> {}", follower.getId(), followeeId);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isFollowing(User follower, Long followeeId) {
+        return followRepository.existsByFollowerIdAndFolloweeId(follower.getId(), followeeId);
+    }
+
+    /**
+     * 새 게시글을 팔로워 피드에 분배 (팔로워가 많은 작성자는 건너뜀)
+     * 팔로워 수만큼 INSERT 하므로 요청 스레드가 아닌 feedTaskExecutor 에서 실행
+     * 분배에 실패해도 게시글 작성은 이미 커밋되었으므로 로그만 남김
+     */
+    @Async("feedTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() != ArticleChangedEvent.Type.CREATED || event.getAuthorId() == null) {
+            return;
+        }
+        try {
+            Integer delivered = fanOutTransaction.execute(status -> isPulled(event.getAuthorId())
+                    ? 0 : timelineEntryRepository.fanOut(event.getArticleId()));
+            log.debug("피드 분배: 게시글 {} -> {}명", event.getArticleId(), delivered);
+        } catch (RuntimeException e) {
+            log.warn("피드 분배 실패: 게시글 {}", event.getArticleId(), e);
+        }
+    }
+
+    /**
+     * 다시 분배하게 된 작성자의 최근 게시글을 팔로워 피드에 채움 (기준 이상이던 동안 분배하지 않은 게시글)
+     */
+    @Async("feedTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFanOutResumed(FanOutResumedEvent event) {
+        try {
+            Integer delivered = fanOutTransaction.execute(status -> isPulled(event.getAuthorId())
+                    ? 0 : timelineEntryRepository.backfillFollowers(event.getAuthorId(), backfillSize));
+            log.info("피드 분배 재개: 작성자 {} -> {}건", event.getAuthorId(), delivered);
+        } catch (RuntimeException e) {
+            log.warn("피드 분배 재개 실패: 작성자 {}", event.getAuthorId(), e);
+        }
+    }
+
+    /**
+     * 피드 조회 (cursor: 이전 페이지의 nextCursor, 없거나 잘못되었으면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public FeedPageDto feed(User user, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Cursor after = Cursor.parse(cursor);
+        int limit = pageSize + 1;
+
+        // 분배된 게시글 ID + 분배하지 않는 작성자의 게시글 ID
+        List<TimelineEntry> entries = timelineEntryRepository.findPage(user.getId(), after.at(), after.id(), limit);
+        List<Long> pulledAuthors = followRepository.findPulledFolloweeIds(user.getId(), fanOutLimit);
+        List<Long> pulledIds = pulledAuthors.isEmpty() ? List.of()
+                : articleRepository.findFeedIdsBefore(pulledAuthors, after.at(), after.id(), limit);
+
+        // 두 목록의 게시글을 작성자와 함께 한 번에 조회 (삭제 표시된 게시글은 Article 조회에서 빠짐)
+        Map<Long, Article> byId = articleRepository.findWithAuthorByIdIn(
+                        Stream.concat(entries.stream().map(TimelineEntry::getArticleId), pulledIds.stream())
+                                .distinct()
+                                .toList())
+                .stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        List<ArticleDto> pushed = summaries(entries.stream().map(TimelineEntry::getArticleId), byId);
+        List<ArticleDto> pulled = summaries(pulledIds.stream(), byId);
+
+        // 타임라인을 끝까지 읽지 못했으면 마지막으로 읽은 항목 위치까지만 병합
+        Cursor pushedEnd = entries.size() > pageSize ? Cursor.of(entries.get(entries.size() - 1)) : null;
+        return merge(pushed, pushedEnd, pulled, pageSize);
+    }
+
+    private static List<ArticleDto> summaries(Stream<Long> ids, Map<Long, Article> byId) {
+        return ids.map(byId::get)
+                .filter(article -> article != null)
+                .map(ArticleDto::summaryOf)
+                .collect(Collectors.toList());
+    }
+
+    private boolean isPulled(Long authorId) {
+        return followers(authorId) >= fanOutLimit;
+    }
+
+    private long followers(Long authorId) {
+        return followerCountRepository.findFollowers(authorId).orElse(0L);
+    }
+
+    /**
+     * ORDER 순으로 정렬된 두 목록을 병합해 앞에서 size 건 (같은 게시글은 한 번만)
+     * pushedEnd: 타임라인에 size 건 넘게 있었으면 마지막으로 읽은 항목 위치, 끝까지 읽었으면 null
+     * - 그 뒤의 타임라인 항목은 아직 읽지 않았으므로 pushedEnd 보다 오래된 직접 조회 게시글은 이번 페이지에 넣지 않음
+     * - 삭제된 게시글이 빠져 페이지가 덜 찼으면 pushedEnd 를 다음 페이지 cursor 로 (읽은 항목을 다시 읽지 않음)
+     */
+    static FeedPageDto merge(List<ArticleDto> pushed, Cursor pushedEnd, List<ArticleDto> pulled, int size) {
+        int pulledEnd = 0;
+        while (pulledEnd < pulled.size() && (pushedEnd == null || !pushedEnd.precedes(pulled.get(pulledEnd)))) {
+            pulledEnd++;
+        }
+
+        List<ArticleDto> articles = new ArrayList<>(size);
+        int i = 0;
+        int j = 0;
+        while (articles.size() < size && (i < pushed.size() || j < pulledEnd)) {
+            int compare = j >= pulledEnd ? -1
+                    : i >= pushed.size() ? 1
+                    : ORDER.compare(pushed.get(i), pulled.get(j));
+            if (compare == 0) {
+                j++;
+            }
+            articles.add(compare <= 0 ? pushed.get(i++) : pulled.get(j++));
+        }
+
+        boolean full = articles.size() == size;
+        boolean hasMore = pushedEnd != null || i < pushed.size() || j < pulled.size();
+        Cursor next = !hasMore ? null
+                : full ? Cursor.of(articles.get(articles.size() - 1))
+                : pushedEnd;
+        return new FeedPageDto(articles, next == null ? null : next.format(), hasMore);
+    }
+
+    /**
+     * 페이지 위치 (마지막 게시글의 작성일시, ID) - 문자열 형식: 작성일시_ID
+     */
+    record Cursor(LocalDateTime at, long id) {
+
+        static final Cursor FIRST = new Cursor(FIRST_PAGE_AT, Long.MAX_VALUE);
+
+        static Cursor of(ArticleDto article) {
+            return new Cursor(article.getCreatedAt(), article.getId());
+        }
+
+        static Cursor of(TimelineEntry entry) {
+            return new Cursor(entry.getCreatedAt(), entry.getArticleId());
+        }
+
+        // 이 위치가 article 보다 앞(더 최근)인지 - article 이 이 위치 다음 페이지에 속하는지
+        boolean precedes(ArticleDto article) {
+            int compare = article.getCreatedAt().compareTo(at);
+            return compare < 0 || (compare == 0 && article.getId() < id);
+        }
+
+        static Cursor parse(String value) {
+            if (value == null || value.isBlank()) {
+                return FIRST;
+            }
+            String[] parts = value.split("_");
+            try {
+                if (parts.length == 2) {
+                    return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+                }
+            } catch (DateTimeParseException | NumberFormatException e) {
+                // 아래에서 첫 페이지로 처리
+            }
+            log.debug("잘못된 피드 cursor, 첫 페이지 조회: {}", value);
+            return FIRST;
+        }
+
+        String format() {
+            return at + "_" + id;
+        }
+    }
+}
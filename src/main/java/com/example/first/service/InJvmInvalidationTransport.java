@@ -0,0 +1,58 @@
+package com.example.first.service;
+
+import com.example.first.entity.CacheInvalidation;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 애플리케이션 컨텍스트끼리 무효화를 직접 전달 (여러 컨텍스트를 띄우는 테스트용)
+ * 모든 인스턴스가 정적 구독자 목록을 공유하며, 커밋 후에 버전을 매겨 전달하므로 버전이 커밋 순서와 같음
+ */
+@Component
+@ConditionalOnProperty(name = "app.near-cache.transport", havingValue = "jvm")
+public class InJvmInvalidationTransport implements InvalidationTransport {
+
+    private static final List<Consumer<List<Message>>> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    // 이 컨텍스트가 등록한 구독자 (종료 시 정적 목록에서 제거)
+    private final List<Consumer<List<Message>>> own = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation.EntityType type, Long entityId, String origin) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(type, entityId, origin);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliver(type, entityId, origin);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Consumer<List<Message>> consumer) {
+        own.add(consumer);
+        SUBSCRIBERS.add(consumer);
+    }
+
+    @PreDestroy
+    public void close() {
+        SUBSCRIBERS.removeAll(own);
+    }
+
+    private static void deliver(CacheInvalidation.EntityType type, Long entityId, String origin) {
+        List<Message> messages = List.of(new Message(type, entityId, VERSION.incrementAndGet(), origin));
+        SUBSCRIBERS.forEach(subscriber -> subscriber.accept(messages));
+    }
+}
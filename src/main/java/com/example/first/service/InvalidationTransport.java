@@ -0,0 +1,30 @@
+package com.example.first.service;
+
+import com.example.first.entity.CacheInvalidation;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 서버 간 캐시 무효화 메시지 전달 방식 (app.near-cache.transport)
+ * - db (기본): cache_invalidation 테이블에 기록하고 각 서버가 주기적으로 조회
+ * - jvm: 같은 JVM 안의 여러 애플리케이션 컨텍스트끼리 직접 전달 (테스트용)
+ */
+public interface InvalidationTransport {
+
+    /**
+     * 변경 트랜잭션 안에서 호출 (커밋된 변경만 다른 서버에 전달되어야 함)
+     */
+    void publish(CacheInvalidation.EntityType type, Long entityId, String origin);
+
+    /**
+     * 수신한 메시지를 받을 구독자 등록 (같은 메시지가 두 번 이상 전달될 수 있음)
+     */
+    void subscribe(Consumer<List<Message>> consumer);
+
+    /**
+     * 무효화 메시지 (version 은 같은 엔티티에 대해 커밋 순서대로 증가)
+     */
+    record Message(CacheInvalidation.EntityType type, Long entityId, long version, String origin) {
+    }
+}
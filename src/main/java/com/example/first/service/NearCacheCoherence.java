@@ -0,0 +1,119 @@
+package com.example.first.service;
+
+import com.example.first.entity.CacheInvalidation;
+import com.example.first.event.ArticleChangedEvent;
+import com.example.first.event.CommentChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 서버 간 로컬 캐시(2차 캐시, 검색 결과 캐시) 정합성 유지
+ * - 게시글/댓글/사용자 변경 트랜잭션 안에서 무효화 메시지를 발행 (InvalidationTransport)
+ * - 다른 서버의 메시지를 받으면 NearCacheListener 들에게 해당 항목 제거를 요청
+ * - 엔티티별로 적용한 마지막 버전을 기억해서 같거나 더 오래된 버전의 메시지(중복, 순서 뒤바뀜)는 버림
+ * 자신이 보낸 메시지는 로컬 이벤트로 이미 처리했으므로 버전만 기록
+ */
+@Component
+@Slf4j
+public class NearCacheCoherence {
+
+    private record Key(CacheInvalidation.EntityType type, Long entityId) {
+    }
+
+    private final InvalidationTransport transport;
+    private final List<NearCacheListener> listeners;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+    private final Map<Key, Long> appliedVersions;
+
+    public NearCacheCoherence(InvalidationTransport transport,
+                              List<NearCacheListener> listeners,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.near-cache.node-id:}") String nodeId,
+                              @Value("${app.near-cache.max-tracked-versions:100000}") int maxTrackedVersions) {
+        this.transport = transport;
+        this.listeners = listeners;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        // 오래 바뀌지 않은 엔티티의 버전부터 잊음 (잊은 뒤 들어온 중복 메시지는 한 번 더 제거할 뿐)
+        this.appliedVersions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Long> eldest) {
+                return size() > maxTrackedVersions;
+            }
+        };
+        transport.subscribe(this::receive);
+        log.info("로컬 캐시 무효화 전파 시작: node={}, transport={}", this.nodeId, transport.getClass().getSimpleName());
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 변경 트랜잭션 안에서 호출 (커밋될 때 함께 전달됨)
+     */
+    public void publish(CacheInvalidation.EntityType type, Long entityId) {
+        if (entityId != null) {
+            transport.publish(type, entityId, nodeId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        publish(CacheInvalidation.EntityType.ARTICLE, event.getArticleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        // 댓글 자체는 캐시하지 않고, 댓글 수가 바뀐 게시글만 무효화
+        if (event.getType() != CommentChangedEvent.Type.UPDATED) {
+            publish(CacheInvalidation.EntityType.COMMENT, event.getArticleId());
+        }
+    }
+
+    void receive(List<InvalidationTransport.Message> messages) {
+        for (InvalidationTransport.Message message : messages) {
+            String result = apply(message);
+            meterRegistry.counter("near.cache.invalidations",
+                    "type", message.type().name(), "result", result).increment();
+        }
+    }
+
+    private String apply(InvalidationTransport.Message message) {
+        if (!accept(new Key(message.type(), message.entityId()), message.version())) {
+            return "rejected";
+        }
+        if (nodeId.equals(message.origin())) {
+            return "self";
+        }
+        for (NearCacheListener listener : listeners) {
+            try {
+                listener.invalidate(message.type(), message.entityId());
+            } catch (RuntimeException e) {
+                log.warn("로컬 캐시 무효화 실패 ({}): {}", listener.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        log.debug("다른 서버 변경으로 캐시 무효화: {} {} (v{})", message.type(), message.entityId(), message.version());
+        return "applied";
+    }
+
+    // 더 새로운 버전이면 기록하고 true
+    private synchronized boolean accept(Key key, long version) {
+        Long applied = appliedVersions.get(key);
+        if (applied != null && applied >= version) {
+            return false;
+        }
+        appliedVersions.put(key, version);
+        return true;
+    }
+}
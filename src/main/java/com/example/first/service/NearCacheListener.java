@@ -0,0 +1,11 @@
+package com.example.first.service;
+
+import com.example.first.entity.CacheInvalidation;
+
+/**
+ * 다른 서버의 변경으로 로컬 캐시 항목을 비워야 할 때 호출됨 (NearCacheCoherence 가 호출)
+ */
+public interface NearCacheListener {
+
+    void invalidate(CacheInvalidation.EntityType type, Long entityId);
+}
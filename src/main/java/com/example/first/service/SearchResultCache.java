@@ -0,0 +1,203 @@
+package com.example.first.service;
+
+import com.example.first.entity.CacheInvalidation;
+import com.example.first.event.ArticleChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 게시글 검색 결과(게시글 ID 목록) 캐시
+ * - 키: (정규화된 검색어, 검색 종류), LRU 방식으로 최대 max-entries 개 유지
+ * - 검색어와 게시글 비교는 SQL 의 UPPER(...) LIKE 와 같게 대문자로 정규화
+ * - 게시글 변경이 커밋되면 그 게시글이 결과에 있던 항목과, 변경 전/후 제목·변경 후 내용(통합 검색은 작성자 닉네임까지)에
+ *   검색어가 포함된 항목만 제거 (변경 전 본문이 없어도 결과에서 빠지는 경우는 게시글 ID 로 찾음)
+ * - 조회 중에 변경이 커밋된 결과는 저장하지 않음 (세대 번호 비교)
+ * - 다른 서버의 게시글 변경은 제목/내용을 알 수 없으므로 전체 제거 (NearCacheCoherence)
+ * - 무효화 직후 primary-read-ms 동안은 레플리카 지연으로 이전 결과가 다시 저장되지 않도록 프라이머리에서 조회
+ * - 이벤트를 받지 못하는 경우를 대비해 ttl 이 지나면 만료
+ */
+@Component
+@Slf4j
+public class SearchResultCache implements NearCacheListener {
+
+    public enum Type {
+        TITLE, CONTENT,
+        // 통합 검색 (제목/내용/작성자 닉네임, 점수순)
+        ALL
+    }
+
+    private record Key(String keyword, Type type) {
+    }
+
+    private record Entry(List<Long> ids, long cachedAt) {
+    }
+
+    private final int maxResultSize;
+    private final long ttlMillis;
+    private final long primaryReadMillis;
+    private final Map<Key, Entry> entries;
+    private long generation = 0;
+    private long invalidatedAt = 0;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    public SearchResultCache(MeterRegistry meterRegistry,
+                             @Value("${app.search-cache.max-entries:1000}") int maxEntries,
+                             @Value("${app.search-cache.max-result-size:1000}") int maxResultSize,
+                             @Value("${app.search-cache.ttl-seconds:300}") long ttlSeconds,
+                             @Value("${app.search-cache.primary-read-ms:5000}") long primaryReadMillis) {
+        this.maxResultSize = maxResultSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.primaryReadMillis = primaryReadMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.hits = Counter.builder("search.cache.requests").tag("result", "hit")
+                .description("검색 결과 캐시 적중").register(meterRegistry);
+        this.misses = Counter.builder("search.cache.requests").tag("result", "miss")
+                .description("검색 결과 캐시 미스").register(meterRegistry);
+        this.invalidations = Counter.builder("search.cache.invalidations")
+                .description("게시글 변경으로 제거된 캐시 항목 수").register(meterRegistry);
+        Gauge.builder("search.cache.size", this, SearchResultCache::size)
+                .description("검색 결과 캐시 항목 수").register(meterRegistry);
+    }
+
+    /**
+     * 검색어 정규화 (앞뒤 공백 제거, 대문자) - SQL 검색도 UPPER 로 비교하므로 이 값으로 조회
+     */
+    public static String normalize(String keyword) {
+        return keyword == null ? "" : keyword.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 조회 시작 전에 받아 두고 put 에 넘김
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * 최근 무효화가 있었는지 (레플리카가 아직 반영하지 못했을 수 있으므로 프라이머리에서 다시 조회)
+     */
+    public synchronized boolean recentlyInvalidated() {
+        return System.currentTimeMillis() - invalidatedAt < primaryReadMillis;
+    }
+
+    /**
+     * 캐시된 게시글 ID 목록 (없으면 null)
+     */
+    public synchronized List<Long> get(String keyword, Type type) {
+        Key key = new Key(keyword, type);
+        Entry entry = entries.get(key);
+        if (entry != null && System.currentTimeMillis() - entry.cachedAt() > ttlMillis) {
+            entries.remove(key);
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.ids();
+    }
+
+    /**
+     * 검색 결과 저장 (조회 시작 이후 게시글 변경이 있었으면 저장하지 않음)
+     */
+    public synchronized void put(String keyword, Type type, List<Long> ids, long generationAtStart) {
+        if (generationAtStart != generation || ids.size() > maxResultSize) {
+            return;
+        }
+        entries.put(new Key(keyword, type), new Entry(List.copyOf(ids), System.currentTimeMillis()));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        generation++;
+        invalidatedAt = System.currentTimeMillis();
+        entries.clear();
+    }
+
+    @Override
+    public void invalidate(CacheInvalidation.EntityType type, Long entityId) {
+        if (type == CacheInvalidation.EntityType.ARTICLE) {
+            clear();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        evictMatching(event.getArticleId(), event.getPreviousTitle(), event.getTitle(), event.getContent(),
+                event.getAuthorNickname());
+    }
+
+    /**
+     * 변경된 게시글이 결과에 있던 항목(결과에서 빠질 수 있음)과
+     * 변경 전/후 제목·변경 후 내용 중 하나라도 검색어를 포함하는 항목(결과에 새로 들어올 수 있음) 제거
+     * 통합 검색은 작성자 닉네임도 비교
+     */
+    synchronized void evictMatching(Long articleId, String previousTitle, String title, String content,
+                                    String authorNickname) {
+        generation++;
+        invalidatedAt = System.currentTimeMillis();
+        String[] titles = {upper(previousTitle), upper(title)};
+        String[] contents = {upper(content)};
+        String[] authors = {upper(authorNickname)};
+
+        int removed = 0;
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> cached = iterator.next();
+            Key key = cached.getKey();
+            boolean matches = (articleId != null && cached.getValue().ids().contains(articleId)) || switch (key.type()) {
+                case TITLE -> containsAny(titles, key.keyword());
+                case CONTENT -> containsAny(contents, key.keyword());
+                case ALL -> containsAny(titles, key.keyword()) || containsAny(contents, key.keyword())
+                        || containsAny(authors, key.keyword());
+            };
+            if (matches) {
+                iterator.remove();
+                removed++;
+            }
+        }
+
+        if (removed > 0) {
+            invalidations.increment(removed);
+            log.debug("검색 결과 캐시 {}건 제거", removed);
+        }
+    }
+
+    private static boolean containsAny(String[] texts, String keyword) {
+        for (String text : texts) {
+            if (text != null && text.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String upper(String text) {
+        return text == null ? null : text.toUpperCase(Locale.ROOT);
+    }
+}
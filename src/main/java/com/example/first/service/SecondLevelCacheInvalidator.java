@@ -0,0 +1,40 @@
+package com.example.first.service;
+
+import com.example.first.entity.Article;
+import com.example.first.entity.CacheInvalidation;
+import com.example.first.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 서버의 변경을 Hibernate 2차 캐시에 반영 (메시지가 가리키는 항목과 리전만 제거)
+ * - 게시글: 해당 게시글 항목 + 게시글 쿼리 캐시 리전 (쿼리 캐시는 로컬 테이블 변경 시각으로만 무효화되므로)
+ * - 댓글: 댓글 수가 바뀐 게시글 항목만 (게시글 쿼리 결과인 id 목록은 그대로)
+ * - 사용자: 해당 사용자 항목 + 사용자 쿼리 캐시 리전
+ *   사용자명(@NaturalId)은 바뀌지 않으므로 사용자명 → id 캐시는 그대로 둠 (삭제된 id 는 엔티티 조회에서 걸러짐)
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidator implements NearCacheListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void invalidate(CacheInvalidation.EntityType type, Long entityId) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        switch (type) {
+            case ARTICLE -> {
+                cache.evictEntityData(Article.class, entityId);
+                cache.evictQueryRegion(Article.QUERY_CACHE_REGION);
+            }
+            case COMMENT -> cache.evictEntityData(Article.class, entityId);
+            case USER -> {
+                cache.evictEntityData(User.class, entityId);
+                cache.evictQueryRegion(User.QUERY_CACHE_REGION);
+            }
+        }
+    }
+}
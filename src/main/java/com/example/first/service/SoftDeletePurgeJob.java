@@ -0,0 +1,79 @@
+package com.example.first.service;
+
+import com.example.first.repository.ArticleRepository;
+import com.example.first.repository.CommentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * 삭제 표시된 게시글/댓글을 실제로 지우는 작업 (사용량이 적은 새벽에 실행)
+ * - 삭제 요청은 deleted_at 만 설정하므로 댓글이 많은 게시글도 요청 시간이 일정
+ * - 보관 기간(retention-hours)이 지난 행만 batch-size 개씩 별도 트랜잭션에서 삭제 (잠금 최소화)
+ * - 외래키 때문에 댓글을 먼저 지우고, 댓글이 남지 않은 게시글만 삭제
+ */
+@Component
+@Slf4j
+public class SoftDeletePurgeJob {
+
+    private final ArticleRepository articleRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long retentionHours;
+    private final int batchSize;
+    private final long pauseMillis;
+
+    public SoftDeletePurgeJob(ArticleRepository articleRepository,
+                              CommentRepository commentRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.purge.retention-hours:24}") long retentionHours,
+                              @Value("${app.purge.batch-size:500}") int batchSize,
+                              @Value("${app.purge.pause-ms:100}") long pauseMillis) {
+        this.articleRepository = articleRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionHours = retentionHours;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Scheduled(cron = "${app.purge.cron:0 0 3 * * *}")
+    public void purge() {
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+
+        int comments = drain(() -> commentRepository.purgeDeleted(cutoff, batchSize));
+        comments += drain(() -> commentRepository.purgeOfDeletedArticles(cutoff, batchSize));
+        int articles = drain(() -> articleRepository.purgeDeleted(cutoff, batchSize));
+
+        log.info("삭제 표시 데이터 정리 완료: 게시글 {}건, 댓글 {}건, {}ms",
+                articles, comments, System.currentTimeMillis() - start);
+    }
+
+    // 지울 행이 없을 때까지 배치 반복
+    private int drain(IntSupplier batch) {
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> batch.getAsInt());
+            if (deleted == null || deleted == 0) {
+                return total;
+            }
+            total += deleted;
+            if (deleted < batchSize) {
+                return total;
+            }
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return total;
+            }
+        }
+    }
+}
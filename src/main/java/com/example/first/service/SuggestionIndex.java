@@ -0,0 +1,310 @@
+package com.example.first.service;
+
+import com.example.first.dto.SuggestionDto;
+import com.example.first.entity.CacheInvalidation;
+import com.example.first.event.ArticleChangedEvent;
+import com.example.first.repository.ArticleRepository;
+import com.example.first.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색어 자동완성용 메모리 트라이 (게시글 제목, 작성자 닉네임)
+ * - 제목은 전체 제목과 각 단어로 시작하는 부분 모두 색인 ("boot" 로 "Spring Boot 학습 후기" 검색 가능)
+ * - 게시글 생성/수정/삭제가 커밋되면 증분 갱신, 닉네임은 회원가입 시(다른 서버는 무효화 메시지로) 추가
+ * - 메모리는 대부분 노드가 차지하므로 노드 수(max-nodes)와 항목 수(max-terms), 키 길이에 상한을 두어 제한
+ */
+@Component
+@Slf4j
+public class SuggestionIndex implements NearCacheListener {
+
+    public static final String TITLE = "TITLE";
+    public static final String AUTHOR = "AUTHOR";
+
+    private static final int MAX_KEY_LENGTH = 40;
+
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final int maxTerms;
+    private final int maxNodes;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private int termCount = 0;
+    private int nodeCount = 0;
+    private boolean overflowLogged = false;
+
+    public SuggestionIndex(ArticleRepository articleRepository,
+                           UserRepository userRepository,
+                           @Value("${app.suggestion.max-terms:200000}") int maxTerms,
+                           @Value("${app.suggestion.max-nodes:500000}") int maxNodes) {
+        this.articleRepository = articleRepository;
+        this.userRepository = userRepository;
+        this.maxTerms = maxTerms;
+        this.maxNodes = maxNodes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        articleRepository.findAllTitles().forEach(this::addTitle);
+        userRepository.findAllNicknames().forEach(this::addAuthor);
+        log.info("자동완성 색인 초기화 완료: {}개 항목, {}개 노드, {}ms",
+                size(), nodeCount(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getPreviousTitle() != null) {
+            removeTitle(event.getPreviousTitle());
+        }
+        if (event.getTitle() != null) {
+            addTitle(event.getTitle());
+        }
+        if (event.getType() == ArticleChangedEvent.Type.CREATED && event.getAuthorNickname() != null) {
+            addAuthor(event.getAuthorNickname());
+        }
+    }
+
+    /**
+     * 다른 서버에서 가입한 사용자의 닉네임 추가
+     */
+    @Override
+    public void invalidate(CacheInvalidation.EntityType type, Long entityId) {
+        if (type == CacheInvalidation.EntityType.USER) {
+            userRepository.findById(entityId).ifPresent(user -> addAuthor(user.getNickname()));
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 제목/닉네임 추천 (사전순)
+     */
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            Map<String, String> found = new LinkedHashMap<>();
+            collect(node, found, limit);
+            List<SuggestionDto> suggestions = new ArrayList<>(found.size());
+            found.forEach((text, type) -> suggestions.add(new SuggestionDto(text, type)));
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void addTitle(String title) {
+        for (String key : titleKeys(title)) {
+            add(key, title, TITLE);
+        }
+    }
+
+    public void removeTitle(String title) {
+        for (String key : titleKeys(title)) {
+            remove(key, title);
+        }
+    }
+
+    public void addAuthor(String nickname) {
+        String key = normalize(nickname);
+        lock.writeLock().lock();
+        try {
+            Node node = find(key);
+            // 닉네임은 중복 등록하지 않음 (참조 수를 세지 않음)
+            if (node == null || !node.terms.containsKey(nickname)) {
+                add(key, nickname, AUTHOR);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(String key, String text, String type) {
+        if (key.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            // 이미 있는 경로까지 내려간 뒤, 새로 만들 노드 수가 상한을 넘는지 먼저 확인
+            Node node = root;
+            int depth = 0;
+            while (depth < key.length()) {
+                Node child = node.children.get(key.charAt(depth));
+                if (child == null) {
+                    break;
+                }
+                node = child;
+                depth++;
+            }
+            Term term = depth == key.length() ? node.terms.get(text) : null;
+            if (term != null) {
+                term.refs++;
+                return;
+            }
+            if (termCount >= maxTerms || nodeCount + (key.length() - depth) > maxNodes) {
+                if (!overflowLogged) {
+                    log.warn("자동완성 색인 상한 도달: 항목 {}/{}, 노드 {}/{} (이후 항목은 색인하지 않음)",
+                            termCount, maxTerms, nodeCount, maxNodes);
+                    overflowLogged = true;
+                }
+                return;
+            }
+            for (; depth < key.length(); depth++) {
+                Node child = new Node();
+                node.children.put(key.charAt(depth), child);
+                node = child;
+                nodeCount++;
+            }
+            node.terms.put(text, new Term(type));
+            termCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(String key, String text) {
+        lock.writeLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return;
+            }
+            Term term = node.terms.get(text);
+            if (term != null && --term.refs == 0) {
+                node.terms.remove(text);
+                termCount--;
+                prune(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    // 더 이상 항목이 없는 가지 제거
+    private void prune(String key) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].children.get(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        for (int i = key.length(); i > 0; i--) {
+            Node node = path[i];
+            if (!node.terms.isEmpty() || !node.children.isEmpty()) {
+                return;
+            }
+            path[i - 1].children.remove(key.charAt(i - 1));
+            nodeCount--;
+        }
+    }
+
+    // 사전순 깊이 우선 탐색으로 limit 개까지 수집
+    private void collect(Node node, Map<String, String> found, int limit) {
+        for (Map.Entry<String, Term> entry : node.terms.entrySet()) {
+            if (found.size() >= limit) {
+                return;
+            }
+            found.putIfAbsent(entry.getKey(), entry.getValue().type);
+        }
+        for (Node child : node.children.values()) {
+            if (found.size() >= limit) {
+                return;
+            }
+            collect(child, found, limit);
+        }
+    }
+
+    // 전체 제목 + 각 단어로 시작하는 부분
+    private static List<String> titleKeys(String title) {
+        String normalized = normalize(title);
+        List<String> keys = new ArrayList<>();
+        int start = 0;
+        while (start < normalized.length()) {
+            keys.add(truncate(normalized.substring(start)));
+            int next = normalized.indexOf(' ', start);
+            if (next < 0) {
+                break;
+            }
+            start = next + 1;
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return truncate(text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT));
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private static class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final Map<String, Term> terms = new HashMap<>(2);
+    }
+
+    private static class Term {
+        private final String type;
+        private int refs = 1;
+
+        Term(String type) {
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.first.service;
+
+import com.example.first.repository.TimelineEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 피드(timeline_entry) 크기 제한 작업
+ * 게시글 분배는 INSERT 만 하므로, 사용자별로 최신 timeline-size 개만 남기고 오래된 항목을 지움
+ * - 넘친 사용자를 한 번 찾은 뒤 사용자마다 별도 트랜잭션에서 인덱스 범위로 삭제 (긴 잠금 방지)
+ * - 더 오래된 글은 피드 끝으로 간주 (작성자 활동 페이지에서 볼 수 있음)
+ */
+@Component
+@Slf4j
+public class TimelineTrimJob {
+
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int timelineSize;
+
+    public TimelineTrimJob(TimelineEntryRepository timelineEntryRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.feed.timeline-size:500}") int timelineSize) {
+        this.timelineEntryRepository = timelineEntryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timelineSize = timelineSize;
+    }
+
+    @Scheduled(cron = "${app.feed.trim-cron:0 30 3 * * *}")
+    public void trim() {
+        long start = System.currentTimeMillis();
+        List<Long> userIds = timelineEntryRepository.findOverfullUserIds(timelineSize);
+        int deleted = 0;
+
+        for (Long userId : userIds) {
+            Integer count = transactionTemplate.execute(status ->
+                    timelineEntryRepository.trimUser(userId, timelineSize));
+            deleted += count == null ? 0 : count;
+        }
+
+        log.info("피드 정리 완료: 사용자 {}명, 항목 {}건 삭제, {}ms",
+                userIds.size(), deleted, System.currentTimeMillis() - start);
+    }
+}
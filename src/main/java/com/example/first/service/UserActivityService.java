@@ -0,0 +1,118 @@
+package com.example.first.service;
+
+import com.example.first.dto.ActivityDto;
+import com.example.first.dto.ActivityPageDto;
+import com.example.first.repository.ArticleRepository;
+import com.example.first.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 활동 목록 (작성한 게시글과 댓글을 시간순으로 합친 키셋 페이지)
+ * 게시글/댓글을 각각 작성자 인덱스로 (작성일, id) 내림차순 size+1 건씩 읽고, 정렬된 두 목록을 병합
+ * 정렬 순서: 작성일 내림차순 → 같은 시각이면 게시글 먼저 → ID 내림차순
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserActivityService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    // 첫 페이지의 기준 시각 (모든 항목보다 늦은 시각)
+    private static final LocalDateTime FIRST_PAGE_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    static final Comparator<ActivityDto> ORDER = Comparator
+            .comparing(ActivityDto::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(ActivityDto::getType)
+            .thenComparing(ActivityDto::getId, Comparator.reverseOrder());
+
+    private final ArticleRepository articleRepository;
+    private final CommentRepository commentRepository;
+
+    /**
+     * cursor(이전 페이지의 nextCursor) 다음부터 size 건 조회 (cursor 가 없거나 잘못되었으면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public ActivityPageDto activity(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Cursor after = Cursor.parse(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        // 같은 시각의 항목은 게시글 → 댓글 순이므로, 마지막 항목이 댓글이면 그 시각의 게시글은 이미 지나감
+        long articleBefore = after.type() == ActivityDto.Type.ARTICLE ? after.id() : 0L;
+        long commentBefore = after.type() == ActivityDto.Type.ARTICLE ? Long.MAX_VALUE : after.id();
+
+        List<ActivityDto> articles = articleRepository.findActivityBefore(userId, after.at(), articleBefore, limit)
+                .stream()
+                .map(ActivityDto::of)
+                .collect(Collectors.toList());
+        List<ActivityDto> comments = commentRepository.findActivityBefore(userId, after.at(), commentBefore, limit)
+                .stream()
+                .map(ActivityDto::of)
+                .collect(Collectors.toList());
+        return merge(articles, comments, pageSize);
+    }
+
+    /**
+     * 각각 ORDER 순으로 정렬된 두 목록을 병합해 앞에서 size 건 (남는 항목이 있으면 hasMore)
+     */
+    static ActivityPageDto merge(List<ActivityDto> articles, List<ActivityDto> comments, int size) {
+        List<ActivityDto> items = new ArrayList<>(size);
+        int i = 0;
+        int j = 0;
+        while (items.size() < size && (i < articles.size() || j < comments.size())) {
+            if (j >= comments.size()
+                    || (i < articles.size() && ORDER.compare(articles.get(i), comments.get(j)) <= 0)) {
+                items.add(articles.get(i++));
+            } else {
+                items.add(comments.get(j++));
+            }
+        }
+        boolean hasMore = i < articles.size() || j < comments.size();
+        String nextCursor = hasMore ? Cursor.of(items.get(items.size() - 1)).format() : null;
+        return new ActivityPageDto(items, nextCursor, hasMore);
+    }
+
+    /**
+     * 페이지 위치 (마지막 항목의 작성일시, 종류, ID) - 문자열 형식: 작성일시_종류_ID
+     */
+    record Cursor(LocalDateTime at, ActivityDto.Type type, long id) {
+
+        static final Cursor FIRST = new Cursor(FIRST_PAGE_AT, ActivityDto.Type.ARTICLE, Long.MAX_VALUE);
+
+        static Cursor of(ActivityDto item) {
+            return new Cursor(item.getCreatedAt(), item.getType(), item.getId());
+        }
+
+        static Cursor parse(String value) {
+            if (value == null || value.isBlank()) {
+                return FIRST;
+            }
+            String[] parts = value.split("_");
+            try {
+                if (parts.length == 3) {
+                    return new Cursor(LocalDateTime.parse(parts[0]), ActivityDto.Type.valueOf(parts[1]),
+                            Long.parseLong(parts[2]));
+                }
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                // 아래에서 첫 페이지로 처리
+            }
+            log.debug("잘못된 활동 목록 cursor, 첫 페이지 조회: {}", value);
+            return FIRST;
+        }
+
+        String format() {
+            return at + "_" + type + "_" + id;
+        }
+    }
+}
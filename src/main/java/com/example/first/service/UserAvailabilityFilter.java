@@ -0,0 +1,151 @@
+package com.example.first.service;
+
+import com.example.first.entity.CacheInvalidation;
+import com.example.first.entity.User;
+import com.example.first.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자명/이메일/닉네임 사용 가능 여부를 DB 조회 없이 빠르게 판별하기 위한 블룸 필터
+ * - mightContain == false 이면 확실히 존재하지 않음 (DB 조회 생략)
+ * - mightContain == true 이면 존재할 수도 있음 (DB로 최종 확인)
+ * 초기 적재가 끝나기 전에는 항상 true를 반환해서 DB로 확인하게 함
+ * 다른 서버에서 가입한 사용자는 무효화 메시지(USER)를 받을 때 추가하고,
+ * 메시지를 놓친 경우에 대비해 reload-ms 마다 DB 의 전체 사용자를 다시 넣음 (삭제가 없으므로 추가만)
+ */
+@Component
+@Slf4j
+public class UserAvailabilityFilter implements NearCacheListener {
+
+    private final UserRepository userRepository;
+    private final BloomFilter usernames;
+    private final BloomFilter emails;
+    private final BloomFilter nicknames;
+    private volatile boolean loaded = false;
+
+    public UserAvailabilityFilter(UserRepository userRepository,
+                                  @Value("${app.user-filter.expected-insertions:100000}") int expectedInsertions,
+                                  @Value("${app.user-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.usernames = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.emails = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.nicknames = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 애플리케이션 시작 후 기존 사용자 정보로 필터 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.user-filter.reload-ms:600000}",
+            fixedDelayString = "${app.user-filter.reload-ms:600000}")
+    public void load() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        for (Object[] row : userRepository.findAllIdentifiers()) {
+            usernames.put((String) row[0]);
+            emails.put((String) row[1]);
+            nicknames.put((String) row[2]);
+            count++;
+        }
+        loaded = true;
+        log.info("사용자 중복 확인 필터 초기화 완료: {}명, {}ms", count, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 새로 가입한 사용자 등록
+     * 트랜잭션이 롤백되더라도 오탐(false positive)만 늘어날 뿐 결과가 틀리지는 않음
+     */
+    public void add(User user) {
+        usernames.put(user.getUsername());
+        emails.put(user.getEmail());
+        nicknames.put(user.getNickname());
+    }
+
+    /**
+     * 다른 서버에서 가입/변경된 사용자 추가
+     */
+    @Override
+    public void invalidate(CacheInvalidation.EntityType type, Long entityId) {
+        if (type == CacheInvalidation.EntityType.USER) {
+            userRepository.findById(entityId).ifPresent(this::add);
+        }
+    }
+
+    public boolean mightContainUsername(String username) {
+        return !loaded || usernames.mightContain(username);
+    }
+
+    public boolean mightContainEmail(String email) {
+        return !loaded || emails.mightContain(email);
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        return !loaded || nicknames.mightContain(nickname);
+    }
+
+    /**
+     * 비트 배열 기반 블룸 필터 (스레드 안전, 삭제 미지원)
+     * 64비트 FNV-1a 해시를 두 개로 나눈 이중 해싱으로 k개의 인덱스를 만든다
+     */
+    static class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.max(1, (m + 63) / 64);
+            this.bits = new AtomicLongArray(words);
+            this.bitSize = (long) words * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        }
+
+        void put(String value) {
+            if (value == null) return;
+            long hash = hash(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) break;
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            if (value == null) return false;
+            long hash = hash(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= (b & 0xff);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.first.service;
 
 import com.example.first.dto.UserRegistrationDto;
+import com.example.first.entity.CacheInvalidation;
 import com.example.first.entity.User;
 import com.example.first.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -13,12 +15,17 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserAvailabilityFilter availabilityFilter;
+    private final SuggestionIndex suggestionIndex;
+    private final NearCacheCoherence nearCacheCoherence;
 
     // @Lazy 어노테이션을 사용하여 순환 참조 방지
     @Lazy
@@ -85,7 +92,7 @@ public class UserService implements UserDetailsService {
     public User registerUser(UserRegistrationDto registrationDto) {
         log.info("회원가입 시도: {}", registrationDto.getUsername());
 
-        // 중복 검사
+        // 중복 검사 (사용자 친화적인 에러를 위한 사전 검사, 최종 보장은 DB 유니크 제약조건)
         validateUserRegistration(registrationDto);
 
         // 비밀번호 암호화
@@ -100,26 +107,45 @@ public class UserService implements UserDetailsService {
                 registrationDto.getNickname()
         );
 
-        User savedUser = userRepository.save(user);
+        // 동시 가입으로 사전 검사를 통과하더라도 유니크 제약조건 위반을 필드 에러로 변환
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            DuplicateUserException duplicate = DuplicateUserException.from(e);
+            log.error("회원가입 실패 (제약조건 위반): 필드={}", duplicate.getField());
+            throw duplicate;
+        }
+        availabilityFilter.add(savedUser);
+        suggestionIndex.addAuthor(savedUser.getNickname());
+        // 다른 서버의 사용자명/이메일 중복 확인 캐시 무효화
+        nearCacheCoherence.publish(CacheInvalidation.EntityType.USER, savedUser.getId());
         log.info("회원가입 완료: {}", savedUser.getUsername());
 
         return savedUser;
     }
 
     /**
-     * 회원가입 시 중복 검사
+     * 회원가입 시 중복 검사 (한 번의 쿼리로 사용자명, 이메일, 닉네임 확인)
      */
     private void validateUserRegistration(UserRegistrationDto registrationDto) {
-        if (userRepository.existsByUsername(registrationDto.getUsername())) {
-            throw new IllegalArgumentException("이미 존재하는 사용자명입니다.");
-        }
+        List<User> conflicts = userRepository.findConflicting(
+                registrationDto.getUsername(),
+                registrationDto.getEmail(),
+                registrationDto.getNickname());
 
-        if (userRepository.existsByEmail(registrationDto.getEmail())) {
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
+        for (User conflict : conflicts) {
+            if (conflict.getUsername().equals(registrationDto.getUsername())) {
+                throw new DuplicateUserException("username");
+            }
         }
-
-        if (userRepository.existsByNickname(registrationDto.getNickname())) {
-            throw new IllegalArgumentException("이미 존재하는 닉네임입니다.");
+        for (User conflict : conflicts) {
+            if (conflict.getEmail().equals(registrationDto.getEmail())) {
+                throw new DuplicateUserException("email");
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new DuplicateUserException("nickname");
         }
     }
 
@@ -140,23 +166,26 @@ public class UserService implements UserDetailsService {
     }
 
     /**
-     * 사용자명 중복 확인
+     * 사용자명 중복 확인 (필터에 없으면 DB 조회 생략)
      */
     public boolean isUsernameAvailable(String username) {
-        return !userRepository.existsByUsername(username);
+        return !availabilityFilter.mightContainUsername(username)
+                || !userRepository.existsByUsername(username);
     }
 
     /**
-     * 이메일 중복 확인
+     * 이메일 중복 확인 (필터에 없으면 DB 조회 생략)
      */
     public boolean isEmailAvailable(String email) {
-        return !userRepository.existsByEmail(email);
+        return !availabilityFilter.mightContainEmail(email)
+                || !userRepository.existsByEmail(email);
     }
 
     /**
-     * 닉네임 중복 확인
+     * 닉네임 중복 확인 (필터에 없으면 DB 조회 생략)
      */
     public boolean isNicknameAvailable(String nickname) {
-        return !userRepository.existsByNickname(nickname);
+        return !availabilityFilter.mightContainNickname(nickname)
+                || !userRepository.existsByNickname(nickname);
     }
 }
\ No newline at end of file
@@ -0,0 +1,181 @@
+package com.example.first.service;
+
+import com.example.first.dto.ArticleDto;
+import com.example.first.repository.ArticleRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배포 직후 느린 첫 요청을 줄이기 위한 준비 단계
+ * - 커넥션 풀마다 minimum-idle 개수만큼 커넥션을 미리 연결
+ * - 조회수 상위 게시글을 2차 캐시에 올리고, 목록/상세/검색/댓글 조회(읽기 전용 경로만)를 rounds 번 반복해
+ *   JIT 컴파일과 Hibernate 쿼리 계획 캐시를 채움 (max-duration 을 넘으면 중단)
+ * ApplicationRunner 는 Spring Boot 가 readiness 를 ACCEPTING_TRAFFIC 으로 바꾸기 전에 실행되므로
+ * 준비가 끝나야 /actuator/health/readiness 가 UP 이 됨 (warmUp 헬스 지표에 소요 시간과 효과 기록)
+ * readiness 그룹에 포함되므로 app.warmup.enabled=false 여도 빈은 두고 바로 UP 으로 표시
+ */
+@Component("warmUp")
+@Slf4j
+public class WarmUpRunner implements ApplicationRunner, HealthIndicator {
+
+    private final ArticleService articleService;
+    private final CommentService commentService;
+    private final ArticleRepository articleRepository;
+    private final ObjectProvider<HikariDataSource> pools;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int hotArticles;
+    private final int rounds;
+    private final long maxDurationMs;
+    private volatile Health health = Health.outOfService().withDetail("phase", "대기").build();
+
+    public WarmUpRunner(ArticleService articleService,
+                        CommentService commentService,
+                        ArticleRepository articleRepository,
+                        ObjectProvider<HikariDataSource> pools,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.warmup.enabled:true}") boolean enabled,
+                        @Value("${app.warmup.hot-articles:20}") int hotArticles,
+                        @Value("${app.warmup.rounds:200}") int rounds,
+                        @Value("${app.warmup.max-duration-ms:20000}") long maxDurationMs) {
+        this.articleService = articleService;
+        this.commentService = commentService;
+        this.articleRepository = articleRepository;
+        this.pools = pools;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.hotArticles = hotArticles;
+        this.rounds = rounds;
+        this.maxDurationMs = maxDurationMs;
+    }
+
+    @Override
+    public Health health() {
+        return health;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            health = Health.up().withDetail("phase", "사용 안 함").build();
+            return;
+        }
+        health = Health.outOfService().withDetail("phase", "진행 중").build();
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxDurationMs);
+        try {
+            int connections = openConnections();
+            List<Long> hotIds = articleRepository.findIdsOrderByViewCountDesc(PageRequest.of(0, hotArticles));
+            String keyword = keywordOf(hotIds);
+
+            long firstRoundNanos = 0;
+            long lastRoundNanos = 0;
+            int completed = 0;
+            while (completed < rounds && System.nanoTime() < deadline) {
+                long roundStart = System.nanoTime();
+                replay(hotIds, keyword, completed);
+                lastRoundNanos = System.nanoTime() - roundStart;
+                if (completed == 0) {
+                    firstRoundNanos = lastRoundNanos;
+                }
+                completed++;
+            }
+
+            long elapsed = System.nanoTime() - start;
+            Timer.builder("app.warmup.duration")
+                    .description("시작 시 준비 단계 소요 시간")
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            health = Health.up()
+                    .withDetail("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsed))
+                    .withDetail("connections", connections)
+                    .withDetail("hotArticles", hotIds.size())
+                    .withDetail("rounds", completed)
+                    .withDetail("firstRoundMs", TimeUnit.NANOSECONDS.toMillis(firstRoundNanos))
+                    .withDetail("lastRoundMs", TimeUnit.NANOSECONDS.toMillis(lastRoundNanos))
+                    .build();
+            log.info("준비 단계 완료: {}ms (커넥션 {}개, 인기 게시글 {}개, {}회 반복, 1회차 {}µs -> 마지막 {}µs)",
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), connections, hotIds.size(), completed,
+                    TimeUnit.NANOSECONDS.toMicros(firstRoundNanos), TimeUnit.NANOSECONDS.toMicros(lastRoundNanos));
+        } catch (RuntimeException e) {
+            // 준비 단계 실패로 서비스를 막지는 않음 (첫 요청들이 느릴 뿐)
+            log.warn("준비 단계 실패, 그대로 시작: {}", e.getMessage());
+            health = Health.up().withDetail("error", e.getMessage()).build();
+        }
+    }
+
+    /**
+     * 읽기 전용 서비스 경로를 한 번씩 실행 (조회수 증가, 쓰기 없음)
+     */
+    private void replay(List<Long> hotIds, String keyword, int round) {
+        // 전체 목록은 비싸므로 10회에 한 번만
+        if (round % 10 == 0) {
+            articleService.indexAsDto();
+        }
+        for (Long id : hotIds) {
+            articleService.showAsDto(id);
+            commentService.comments(id);
+        }
+        if (keyword != null) {
+            articleService.searchByTitle(keyword);
+            articleService.searchByContent(keyword);
+            // type=all 실제 요청 경로 (병렬 하위 쿼리 + 결과 캐시)
+            articleService.searchAll(keyword);
+        }
+    }
+
+    /**
+     * 커넥션 풀마다 minimum-idle 개수만큼 동시에 빌렸다가 반납해서 물리 연결을 미리 생성
+     */
+    private int openConnections() {
+        int opened = 0;
+        for (HikariDataSource pool : pools.orderedStream().toList()) {
+            List<Connection> connections = new ArrayList<>();
+            try {
+                int target = Math.min(pool.getMinimumIdle(), pool.getMaximumPoolSize());
+                for (int i = 0; i < target; i++) {
+                    connections.add(pool.getConnection());
+                }
+                opened += connections.size();
+            } catch (Exception e) {
+                log.warn("커넥션 미리 연결 실패 ({}): {}", pool.getPoolName(), e.getMessage());
+            } finally {
+                for (Connection connection : connections) {
+                    try {
+                        connection.close();
+                    } catch (Exception ignored) {
+                        // 반납 실패는 무시
+                    }
+                }
+            }
+        }
+        return opened;
+    }
+
+    // 인기 게시글 제목의 첫 단어를 검색어로 사용 (실제 검색과 비슷한 쿼리 계획)
+    private String keywordOf(List<Long> hotIds) {
+        if (hotIds.isEmpty()) {
+            return null;
+        }
+        ArticleDto article = articleService.showAsDto(hotIds.get(0));
+        if (article == null || article.getTitle() == null || article.getTitle().isBlank()) {
+            return null;
+        }
+        return article.getTitle().trim().split("\\s+")[0];
+    }
+}
@@ -15,7 +15,10 @@ INSERT INTO article (title, content, author_id, created_at, view_count) VALUES
     ('Spring Security 적용기', 'Spring Security를 프로젝트에 적용해보았는데, 생각보다 복잡하지만 보안에는 확실히 도움이 됩니다.', 1, CURRENT_TIMESTAMP, 0);
 
 -- 댓글 데이터 (기존 Comment 엔티티가 있다면)
-INSERT INTO comment (nickname, body, article_id) VALUES
-    ('댓글러1', '좋은 글이네요! 감사합니다.', 1),
-    ('댓글러2', '도움이 많이 되었습니다!', 1),
-    ('댓글러3', '저도 Spring Boot 공부 중인데 참고하겠습니다.', 2);
\ No newline at end of file
+INSERT INTO comment (nickname, body, article_id, created_at) VALUES
+    ('댓글러1', '좋은 글이네요! 감사합니다.', 1, CURRENT_TIMESTAMP),
+    ('댓글러2', '도움이 많이 되었습니다!', 1, CURRENT_TIMESTAMP),
+    ('댓글러3', '저도 Spring Boot 공부 중인데 참고하겠습니다.', 2, CURRENT_TIMESTAMP);
+
+-- 댓글 정렬 경로 (모두 최상위 댓글)
+UPDATE comment SET path = LPAD(CAST(id AS VARCHAR), 10, '0') WHERE path IS NULL;
\ No newline at end of file
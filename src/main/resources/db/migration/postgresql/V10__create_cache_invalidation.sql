@@ -0,0 +1,12 @@
+-- 로컬 캐시 무효화 메시지 (서버 간 전파용, 각 서버가 주기적으로 조회)
+-- id 가 곧 무효화 버전이며, 같은 엔티티의 무효화는 행 잠금 순서대로 번호가 매겨짐
+CREATE TABLE IF NOT EXISTS cache_invalidation (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type VARCHAR(20)  NOT NULL CHECK (entity_type IN ('ARTICLE', 'COMMENT', 'USER')),
+    entity_id   BIGINT       NOT NULL,
+    origin      VARCHAR(64)  NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL
+);
+
+-- CacheInvalidationRepository: findByCreatedAtAfter..., deleteOlderThan
+CREATE INDEX IF NOT EXISTS idx_cache_invalidation_created_at ON cache_invalidation (created_at);
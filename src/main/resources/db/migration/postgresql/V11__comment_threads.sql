@@ -0,0 +1,14 @@
+-- 댓글 답글 (경로 구체화 방식)
+-- path: 최상위 댓글부터 자신까지의 id 를 10자리로 채워 이어 붙인 값 (예: 0000000003 0000000017)
+--       path 순서가 곧 화면 표시 순서이고, 스레드/하위 트리는 path 접두사 범위 조회 한 번으로 가져옴
+-- 숫자 문자열을 바이트 순서로 비교하도록 C 정렬 사용
+-- parent_id 는 참조 제약 없이 기록만 함 (삭제 표시된 부모가 실제 삭제되어도 답글은 path 로 위치 유지)
+ALTER TABLE comment ADD COLUMN IF NOT EXISTS parent_id BIGINT;
+ALTER TABLE comment ADD COLUMN IF NOT EXISTS depth INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE comment ADD COLUMN IF NOT EXISTS path VARCHAR(100) COLLATE "C";
+
+-- 기존 댓글은 모두 최상위 댓글
+UPDATE comment SET path = LPAD(id::text, 10, '0') WHERE path IS NULL;
+
+-- CommentRepository: findRootIds, findThreads, findSubtree (게시글별 path 범위 조회)
+CREATE INDEX IF NOT EXISTS idx_comment_article_path ON comment (article_id, path) WHERE deleted_at IS NULL;
@@ -0,0 +1,17 @@
+-- 사용자 활동 목록 (작성한 게시글 + 댓글을 시간순으로 합쳐 키셋 페이지 조회)
+-- 댓글 작성자를 닉네임 문자열 대신 users.id 로 연결 (로그인 전에 작성된 댓글은 NULL)
+ALTER TABLE comment ADD COLUMN IF NOT EXISTS author_id BIGINT;
+ALTER TABLE comment ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6);
+
+-- 기존 댓글의 작성 시각은 기록되지 않았으므로 게시글 작성 시각으로 채움
+UPDATE comment c SET created_at = a.created_at FROM article a WHERE a.id = c.article_id AND c.created_at IS NULL;
+UPDATE comment SET created_at = now() WHERE created_at IS NULL;
+ALTER TABLE comment ALTER COLUMN created_at SET DEFAULT now();
+ALTER TABLE comment ALTER COLUMN created_at SET NOT NULL;
+
+-- 닉네임이 회원 닉네임과 같은 기존 댓글은 그 회원의 댓글로 연결
+UPDATE comment c SET author_id = u.id FROM users u WHERE u.nickname = c.nickname AND c.author_id IS NULL;
+
+-- CommentRepository.findActivityBefore (작성자별 (작성일, id) 내림차순 키셋 조회)
+CREATE INDEX IF NOT EXISTS idx_comment_author_created ON comment (author_id, created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
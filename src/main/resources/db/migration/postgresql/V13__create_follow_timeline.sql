@@ -0,0 +1,33 @@
+-- 작성자 팔로우와 팔로우 피드 (쓰기 시점 분배)
+-- 게시글 작성 시 팔로워들의 timeline_entry 에 게시글을 넣어 두고, 피드는 자신의 타임라인만 키셋 조회
+-- 팔로워가 너무 많은 작성자는 분배하지 않고 피드 조회 시 게시글 테이블에서 직접 읽음 (follower_count 로 판단)
+CREATE TABLE IF NOT EXISTS user_follow (
+    follower_id BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    followee_id BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    created_at  TIMESTAMP(6) NOT NULL DEFAULT now(),
+    PRIMARY KEY (follower_id, followee_id),
+    CHECK (follower_id <> followee_id)
+);
+
+-- TimelineEntryRepository.fanOut (작성자의 팔로워 목록)
+CREATE INDEX IF NOT EXISTS idx_user_follow_followee ON user_follow (followee_id, follower_id);
+
+-- 작성자별 팔로워 수 (팔로우/취소 시 증감, 분배/직접 조회 기준)
+CREATE TABLE IF NOT EXISTS follower_count (
+    user_id   BIGINT PRIMARY KEY REFERENCES users (id) ON DELETE CASCADE,
+    followers BIGINT NOT NULL DEFAULT 0
+);
+
+-- 사용자별 피드 (created_at 은 게시글 작성일시, 오래된 항목은 TimelineTrimJob 이 개수 기준으로 정리)
+-- 게시글이 실제 삭제/보관되면 함께 삭제
+CREATE TABLE IF NOT EXISTS timeline_entry (
+    user_id    BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    article_id BIGINT       NOT NULL REFERENCES article (id) ON DELETE CASCADE,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (user_id, article_id)
+);
+
+-- TimelineEntryRepository.findPage, trimUser (사용자별 (작성일, 게시글 id) 내림차순)
+CREATE INDEX IF NOT EXISTS idx_timeline_entry_user_created ON timeline_entry (user_id, created_at DESC, article_id DESC);
+-- 게시글 실제 삭제 시 참조 확인
+CREATE INDEX IF NOT EXISTS idx_timeline_entry_article_id ON timeline_entry (article_id);
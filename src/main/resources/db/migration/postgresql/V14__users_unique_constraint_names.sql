@@ -0,0 +1,24 @@
+-- ddl-auto=update 로 만들어진 뒤 baseline 된 DB 는 users 유니크 제약조건 이름이 Hibernate 가 생성한 이름(uk_xxxx)
+-- DuplicateUserException 은 제약조건 이름으로 중복 필드를 판별하므로 V1 과 같은 이름으로 바꿈
+DO $$
+DECLARE
+    target RECORD;
+BEGIN
+    FOR target IN
+        SELECT c.conname, a.attname
+        FROM pg_constraint c
+        JOIN pg_class t ON t.oid = c.conrelid
+        JOIN pg_attribute a ON a.attrelid = t.oid AND a.attnum = c.conkey[1]
+        WHERE t.relname = 'users'
+          AND t.relnamespace = current_schema()::regnamespace
+          AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1
+          AND a.attname IN ('username', 'email')
+    LOOP
+        IF target.conname <> 'uk_users_' || target.attname
+                AND to_regclass('uk_users_' || target.attname) IS NULL THEN
+            EXECUTE format('ALTER TABLE users RENAME CONSTRAINT %I TO %I',
+                           target.conname, 'uk_users_' || target.attname);
+        END IF;
+    END LOOP;
+END $$;
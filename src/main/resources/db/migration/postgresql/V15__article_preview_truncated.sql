@@ -0,0 +1,8 @@
+-- 미리보기가 본문을 자른 것인지 표시 (목록에서 본문을 읽지 않고 "..." 여부 결정)
+-- 잘린 미리보기는 99~100자이므로 그 행만 본문 길이와 비교
+ALTER TABLE article ADD COLUMN IF NOT EXISTS preview_truncated BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE article
+SET preview_truncated = TRUE
+WHERE char_length(preview) >= 99
+  AND char_length(content) > char_length(preview);
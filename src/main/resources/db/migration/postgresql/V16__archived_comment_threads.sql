@@ -0,0 +1,17 @@
+-- 보관된 댓글에도 답글 트리(parent_id, depth, path)와 작성자/작성일 보존
+-- ArticleArchiveJob 이 comment 의 같은 컬럼을 그대로 복사
+ALTER TABLE archived_comment ADD COLUMN IF NOT EXISTS parent_id BIGINT;
+ALTER TABLE archived_comment ADD COLUMN IF NOT EXISTS depth INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE archived_comment ADD COLUMN IF NOT EXISTS path VARCHAR(100) COLLATE "C";
+ALTER TABLE archived_comment ADD COLUMN IF NOT EXISTS author_id BIGINT;
+ALTER TABLE archived_comment ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6);
+
+-- 이미 보관된 댓글은 원본이 지워져 트리를 복원할 수 없으므로 최상위 댓글, 작성 시각은 게시글 작성 시각으로 채움
+UPDATE archived_comment SET path = LPAD(id::text, 10, '0') WHERE path IS NULL;
+UPDATE archived_comment c SET created_at = a.created_at
+FROM archived_article a WHERE a.id = c.article_id AND c.created_at IS NULL;
+ALTER TABLE archived_comment ALTER COLUMN created_at SET NOT NULL;
+
+-- ArchivedCommentRepository: findByArticleIdOrderByPathAsc (표시 순서)
+DROP INDEX IF EXISTS idx_archived_comment_article_id;
+CREATE INDEX IF NOT EXISTS idx_archived_comment_article_path ON archived_comment (article_id, path);
@@ -0,0 +1,9 @@
+-- 변경 이력에 기록한 트랜잭션 ID 저장 (커밋 순서 기준 커서)
+-- id 는 INSERT 시점에 정해져 커밋 순서와 다를 수 있으므로, 아직 진행 중인 트랜잭션보다 앞선(= 이미 끝난) 트랜잭션의 변경만 내보낸다
+-- 기존 이력은 이 마이그레이션 트랜잭션의 ID 로 채워지며 같은 트랜잭션 안에서는 id 순서를 따른다
+ALTER TABLE change_log ADD COLUMN IF NOT EXISTS txid BIGINT NOT NULL DEFAULT txid_current();
+
+-- ChangeLogRepository: findCommittedAfter, findCommittedAfterForArticle
+DROP INDEX IF EXISTS idx_change_log_article_id;
+CREATE INDEX IF NOT EXISTS idx_change_log_txid ON change_log (txid, id);
+CREATE INDEX IF NOT EXISTS idx_change_log_article_txid ON change_log (article_id, txid, id);
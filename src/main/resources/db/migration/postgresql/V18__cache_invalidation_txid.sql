@@ -0,0 +1,7 @@
+-- 무효화 메시지에 기록한 트랜잭션 ID 저장 (커밋 순서 기준 조회, 앱 서버 시계를 쓰지 않음)
+-- 진행 중인 트랜잭션 중 가장 오래된 것(snapshot xmin)보다 앞선 트랜잭션의 메시지만 읽으므로 늦게 커밋된 메시지를 건너뛰지 않음
+-- 기존 메시지는 이 마이그레이션 트랜잭션의 ID 로 채워짐
+ALTER TABLE cache_invalidation ADD COLUMN IF NOT EXISTS txid BIGINT NOT NULL DEFAULT txid_current();
+
+-- CacheInvalidationRepository: findCommittedAfter
+CREATE INDEX IF NOT EXISTS idx_cache_invalidation_txid ON cache_invalidation (txid, id);
@@ -0,0 +1,7 @@
+-- V12 가 닉네임이 같다는 이유로 기존 댓글에 채운 author_id 를 되돌림
+-- 댓글 닉네임은 자유 입력이라 같은 닉네임이어도 그 회원이 썼다고 볼 수 없음
+-- V12 적용 이전 댓글의 작성 시각은 V12 가 게시글 작성 시각(없으면 적용 시각)으로 채웠으므로 적용 시각 이하
+-- 그 뒤에 로그인한 회원이 작성한 댓글은 작성 시각이 더 늦어 그대로 유지
+UPDATE comment SET author_id = NULL
+WHERE author_id IS NOT NULL
+  AND created_at <= (SELECT installed_on FROM flyway_schema_history WHERE version = '12' AND success);
@@ -0,0 +1,33 @@
+-- 기존 ddl-auto=update 로 생성되던 스키마
+-- 이미 테이블이 있는 DB는 baseline-on-migrate 로 이 버전을 건너뜀
+CREATE TABLE IF NOT EXISTS users (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username                VARCHAR(255) NOT NULL,
+    password                VARCHAR(255) NOT NULL,
+    email                   VARCHAR(255) NOT NULL,
+    nickname                VARCHAR(255) NOT NULL,
+    role                    VARCHAR(255) NOT NULL CHECK (role IN ('USER', 'ADMIN')),
+    enabled                 BOOLEAN      NOT NULL,
+    account_non_expired     BOOLEAN      NOT NULL,
+    account_non_locked      BOOLEAN      NOT NULL,
+    credentials_non_expired BOOLEAN      NOT NULL,
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS article (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title      VARCHAR(255)  NOT NULL,
+    content    VARCHAR(5000) NOT NULL,
+    author_id  BIGINT        NOT NULL REFERENCES users (id),
+    created_at TIMESTAMP(6)  NOT NULL,
+    updated_at TIMESTAMP(6),
+    view_count BIGINT        NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS comment (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    article_id BIGINT REFERENCES article (id),
+    nickname   VARCHAR(255),
+    body       VARCHAR(255)
+);
@@ -0,0 +1,4 @@
+-- 작성자별 (작성일, id) 내림차순 키셋 조회가 인덱스 순서 그대로 읽도록 id 를 뒤에 추가
+-- ArticleRepository: findActivityBefore, findFeedIdsBefore (작성자마다 LATERAL ... LIMIT), findByAuthorOrderByCreatedAtDesc, countByAuthor
+DROP INDEX IF EXISTS idx_article_author_created_at;
+CREATE INDEX IF NOT EXISTS idx_article_author_created_at ON article (author_id, created_at DESC, id DESC);
@@ -0,0 +1,2 @@
+-- 닉네임 중복은 DB 제약조건으로 보장 (회원가입 동시성 문제 방지)
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_nickname ON users (nickname);
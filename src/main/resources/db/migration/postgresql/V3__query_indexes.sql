@@ -0,0 +1,14 @@
+-- ArticleRepository: findAllByOrderByCreatedAtDesc, findTop5ByOrderByCreatedAtDesc, countArticlesSince
+CREATE INDEX IF NOT EXISTS idx_article_created_at ON article (created_at DESC);
+
+-- ArticleRepository: findByAuthorOrderByCreatedAtDesc, countByAuthor
+CREATE INDEX IF NOT EXISTS idx_article_author_created_at ON article (author_id, created_at DESC);
+
+-- ArticleRepository: findTop5ByOrderByViewCountDesc
+CREATE INDEX IF NOT EXISTS idx_article_view_count ON article (view_count DESC);
+
+-- CommentRepository: findByArticleId
+CREATE INDEX IF NOT EXISTS idx_comment_article_id ON comment (article_id);
+
+-- CommentRepository: findByNickname
+CREATE INDEX IF NOT EXISTS idx_comment_nickname ON comment (nickname);
@@ -0,0 +1,7 @@
+-- ArticleRepository의 ...ContainingIgnoreCase 검색과 searchByKeyword 는 UPPER(column) LIKE '%keyword%' 로 실행됨
+-- 앞뒤 와일드카드 LIKE 는 B-tree 인덱스를 쓸 수 없으므로 trigram GIN 인덱스 사용
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_article_title_trgm ON article USING gin (UPPER(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_article_content_trgm ON article USING gin (UPPER(content) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_nickname_trgm ON users USING gin (UPPER(nickname) gin_trgm_ops);
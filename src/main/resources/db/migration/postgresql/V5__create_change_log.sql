@@ -0,0 +1,12 @@
+-- 게시글/댓글 변경 이력 (증분 동기화용)
+CREATE TABLE IF NOT EXISTS change_log (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type VARCHAR(255) NOT NULL CHECK (entity_type IN ('ARTICLE', 'COMMENT')),
+    entity_id   BIGINT       NOT NULL,
+    article_id  BIGINT       NOT NULL,
+    operation   VARCHAR(255) NOT NULL CHECK (operation IN ('CREATE', 'UPDATE', 'DELETE')),
+    created_at  TIMESTAMP(6) NOT NULL
+);
+
+-- ChangeLogRepository: findByArticleIdAndIdGreaterThan...
+CREATE INDEX IF NOT EXISTS idx_change_log_article_id ON change_log (article_id, id);
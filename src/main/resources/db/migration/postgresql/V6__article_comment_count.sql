@@ -0,0 +1,8 @@
+-- 게시글별 댓글 수 (목록에서 댓글을 읽지 않고 표시)
+-- CommentService 가 댓글 생성/삭제와 같은 트랜잭션에서 +1/-1, CommentCountRepairJob 이 주기적으로 재계산
+ALTER TABLE article ADD COLUMN IF NOT EXISTS comment_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE article a
+SET comment_count = c.cnt
+FROM (SELECT article_id, COUNT(*) AS cnt FROM comment GROUP BY article_id) c
+WHERE a.id = c.article_id;
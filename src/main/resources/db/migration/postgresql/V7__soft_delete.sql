@@ -0,0 +1,7 @@
+-- 게시글/댓글 삭제 표시 (삭제 요청은 표시만 하고, SoftDeletePurgeJob 이 나중에 실제 삭제)
+ALTER TABLE article ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6);
+ALTER TABLE comment ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6);
+
+-- 삭제 대상 조회용 (삭제된 행만 색인)
+CREATE INDEX IF NOT EXISTS idx_article_deleted_at ON article (deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_comment_deleted_at ON comment (deleted_at) WHERE deleted_at IS NOT NULL;
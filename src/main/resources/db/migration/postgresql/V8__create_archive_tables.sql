@@ -0,0 +1,23 @@
+-- 오래된 게시글 보관 테이블 (ArticleArchiveJob 이 article/comment 에서 옮김)
+-- 본문은 압축해서 저장 (CompressedTextConverter), id 는 원래 게시글/댓글 id 그대로 사용
+CREATE TABLE IF NOT EXISTS archived_article (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    title         VARCHAR(255) NOT NULL,
+    content       BYTEA        NOT NULL,
+    author_id     BIGINT       NOT NULL REFERENCES users (id),
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6),
+    view_count    BIGINT       NOT NULL,
+    comment_count BIGINT       NOT NULL,
+    archived_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS archived_comment (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    article_id BIGINT       NOT NULL REFERENCES archived_article (id),
+    nickname   VARCHAR(255),
+    body       VARCHAR(255)
+);
+
+-- ArchivedCommentRepository: findByArticleIdOrderByIdAsc
+CREATE INDEX IF NOT EXISTS idx_archived_comment_article_id ON archived_comment (article_id, id);
@@ -0,0 +1,19 @@
+document.addEventListener('DOMContentLoaded', function() {
+    // 실제로는 서버에서 인증 정보를 전달받아야 하지만,
+    // 임시로 세션 스토리지나 다른 방법을 사용할 수 있습니다.
+    // 현재는 예시로만 작성합니다.
+
+    const guestMenu = document.getElementById('guest-menu');
+    const guestRegister = document.getElementById('guest-register');
+    const userMenu = document.getElementById('user-menu');
+
+    // 임시: 실제로는 서버에서 인증 상태를 확인해야 합니다
+    const isAuthenticated = false; // 이 값은 서버에서 전달받아야 합니다
+
+    if (isAuthenticated) {
+        userMenu.classList.remove('d-none');
+    } else {
+        guestMenu.classList.remove('d-none');
+        guestRegister.classList.remove('d-none');
+    }
+});
@@ -0,0 +1,48 @@
+package com.example.first.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImmutableAssetResolverTest {
+
+    // 뒤쪽 리졸버(버전 확인)가 항상 원래 파일을 찾았다고 가정
+    private final ResourceResolverChain chain = new ResourceResolverChain() {
+        @Override
+        public Resource resolveResource(HttpServletRequest request, String requestPath,
+                                        List<? extends Resource> locations) {
+            return new ClassPathResource("static/css/app.css");
+        }
+
+        @Override
+        public String resolveUrlPath(String resourcePath, List<? extends Resource> locations) {
+            return resourcePath;
+        }
+    };
+
+    @Test
+    @DisplayName("내용 해시가 붙은 경로만 immutable 캐시 헤더")
+    void immutableOnlyForVersionedPath() {
+        // 입력 데이터 준비
+        ImmutableAssetResolver resolver = new ImmutableAssetResolver();
+        // 실제 데이터
+        Resource versioned = resolver.resolveResource(null, "app-0123456789abcdef.css", List.of(), chain);
+        Resource plain = resolver.resolveResource(null, "app.css", List.of(), chain);
+        // 비교 및 검증
+        assertTrue(versioned instanceof HttpResource);
+        String cacheControl = ((HttpResource) versioned).getResponseHeaders().getCacheControl();
+        assertTrue(cacheControl.contains("immutable"), cacheControl);
+        assertEquals("app.css", versioned.getFilename());
+        assertFalse(plain instanceof HttpResource, "원래 경로는 핸들러 기본 캐시 헤더(no-cache)");
+    }
+}
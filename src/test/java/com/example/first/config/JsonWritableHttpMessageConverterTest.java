@@ -0,0 +1,67 @@
+package com.example.first.config;
+
+import com.example.first.dto.ArticleDto;
+import com.example.first.dto.ArticleSummary;
+import com.example.first.dto.CommentDto;
+import com.example.first.dto.CommentView;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonWritableHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("댓글 record 응답은 기존 Jackson 직렬화 결과와 같음")
+    void commentMatchesJackson() throws Exception {
+        // 입력 데이터 준비
+        List<CommentDto> dtos = List.of(new CommentDto(1L, 2L, "닉네임", "댓글 \"본문\""),
+                new CommentDto(3L, 2L, null, "두 번째"));
+        // 실제 데이터
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonWritableHttpMessageConverter.writeTo(dtos.stream().map(CommentView::from).toList(), out);
+        // 비교 및 검증
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(dtos)), objectMapper.readTree(out.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("게시글 record 응답은 본문을 제외하고 기존 필드를 그대로 가짐")
+    void articleMatchesJacksonWithoutContent() throws Exception {
+        // 입력 데이터 준비
+        ArticleDto dto = new ArticleDto(1L, "제목", null, 7L, "user1", "작성자",
+                LocalDateTime.of(2024, 1, 1, 10, 0), null, 3L, 2L, "미리보기", false, false);
+        // 실제 데이터
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonWritableHttpMessageConverter.writeTo(ArticleSummary.from(dto), out);
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsBytes(dto));
+        ((com.fasterxml.jackson.databind.node.ObjectNode) expected).remove("content");
+        // 비교 및 검증
+        assertEquals(expected, objectMapper.readTree(out.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("요소 타입이 JsonWritable 인 컬렉션만 처리")
+    void canWriteOnlyWritableCollections() {
+        JsonWritableHttpMessageConverter converter = new JsonWritableHttpMessageConverter();
+        assertTrue(converter.canWrite(new ParameterizedTypeReference<List<CommentView>>() {}.getType(),
+                List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(new ParameterizedTypeReference<List<CommentDto>>() {}.getType(),
+                List.class, MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.first.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PoolSizeControllerTest {
+
+    // min 5, max 12, step 2, 대기 기준 50ms/2ms, DB 지연 기준 200ms
+    private final PoolSizeController controller = new PoolSizeController(null, null, 5, 12, 2, 50, 2, 200);
+
+    @Test
+    @DisplayName("획득 대기가 길고 DB 지연이 정상이면 최대 크기까지 늘림")
+    void growWhenStarved() {
+        // 입력 데이터 준비
+        ConnectionTelemetry.WindowStats starved = new ConnectionTelemetry.WindowStats(100, 80, 20, 0);
+        // 비교 및 검증
+        assertEquals(12, controller.nextSize(10, starved, 10, 5));
+        assertEquals(12, controller.nextSize(12, starved, 12, 5), "최대 크기를 넘지 않음");
+    }
+
+    @Test
+    @DisplayName("DB 지연이 높으면 대기가 길어도 늘리지 않음")
+    void holdWhenDatabaseIsSlow() {
+        // 입력 데이터 준비
+        ConnectionTelemetry.WindowStats slowDb = new ConnectionTelemetry.WindowStats(100, 80, 500, 0);
+        // 비교 및 검증
+        assertEquals(10, controller.nextSize(10, slowDb, 10, 5));
+    }
+
+    @Test
+    @DisplayName("대기가 없고 사용 중인 커넥션이 절반 미만이면 최소 크기까지 줄임")
+    void shrinkWhenIdle() {
+        // 입력 데이터 준비
+        ConnectionTelemetry.WindowStats idle = new ConnectionTelemetry.WindowStats(100, 0, 5, 0);
+        // 비교 및 검증
+        assertEquals(8, controller.nextSize(10, idle, 2, 0));
+        assertEquals(5, controller.nextSize(6, idle, 0, 0));
+        assertEquals(10, controller.nextSize(10, idle, 6, 0), "절반 이상 사용 중이면 유지");
+    }
+}
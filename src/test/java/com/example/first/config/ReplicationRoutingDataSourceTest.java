@@ -0,0 +1,70 @@
+package com.example.first.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicationRoutingDataSourceTest {
+
+    // 로컬 H2 두 개를 프라이머리/레플리카 대용으로 사용
+    private final DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1", "sa", "");
+    private final DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1", "sa", "");
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicationRoutingDataSource.clearForcePrimary();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 프라이머리 사용")
+    void writeGoesToPrimary() throws SQLException {
+        ReplicationRoutingDataSource routing = routing(replica);
+        assertTrue(urlOf(routing).contains("primary"));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카 사용")
+    void readOnlyGoesToReplica() throws SQLException {
+        ReplicationRoutingDataSource routing = routing(replica);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertTrue(urlOf(routing).contains("replica"));
+    }
+
+    @Test
+    @DisplayName("변경 직후에는 읽기 전용이어도 프라이머리 사용")
+    void forcePrimaryOverridesReadOnly() throws SQLException {
+        ReplicationRoutingDataSource routing = routing(replica);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicationRoutingDataSource.forcePrimary();
+        assertTrue(urlOf(routing).contains("primary"));
+    }
+
+    @Test
+    @DisplayName("레플리카가 없으면 읽기 전용도 프라이머리 사용")
+    void noReplicaFallsBackToPrimary() throws SQLException {
+        ReplicationRoutingDataSource routing = routing(null);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertTrue(urlOf(routing).contains("primary"));
+    }
+
+    private ReplicationRoutingDataSource routing(DataSource replica) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(primary, replica);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    private String urlOf(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+}
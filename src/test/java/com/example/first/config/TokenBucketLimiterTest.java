@@ -0,0 +1,81 @@
+package com.example.first.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketLimiterTest {
+
+    @Test
+    @DisplayName("최대 토큰 수만큼 허용 후 충전 속도에 맞춰 다시 허용")
+    void acquireAndRefill() {
+        // 입력 데이터 준비
+        AtomicLong clock = new AtomicLong(1);
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 1, 100, clock::get);
+        // 실제 데이터
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("1.1.1.1"));
+        }
+        long wait = limiter.tryAcquire("1.1.1.1");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        // 비교 및 검증
+        assertTrue(wait > 0 && wait <= TimeUnit.SECONDS.toNanos(1), "대기 시간: " + wait);
+        assertEquals(0, limiter.tryAcquire("1.1.1.1"));
+        assertEquals(0, limiter.tryAcquire("2.2.2.2"), "다른 클라이언트는 별도 버킷");
+    }
+
+    @Test
+    @DisplayName("키 수 상한을 넘으면 가득 찬(쉬고 있는) 버킷부터 제거")
+    void evictIdleBucketsFirst() {
+        // 입력 데이터 준비
+        AtomicLong clock = new AtomicLong(1);
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 10, clock::get);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("client" + i);
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        limiter.tryAcquire("client0");
+        // 실제 데이터
+        limiter.tryAcquire("new-client");
+        // 비교 및 검증
+        assertEquals(2, limiter.size());
+        assertTrue(limiter.peek("client0") > 0, "토큰을 쓴 버킷은 유지");
+        assertTrue(limiter.peek("new-client") > 0, "방금 만든 버킷은 유지");
+        assertEquals(0, limiter.peek("client1"), "가득 찬 버킷은 제거되어도 결과가 같음");
+    }
+
+    @Test
+    @DisplayName("모든 버킷이 사용 중이면 상한의 90% 까지 임의로 제거")
+    void evictDownToTarget() {
+        // 입력 데이터 준비
+        AtomicLong clock = new AtomicLong(1);
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 10, clock::get);
+        // 실제 데이터
+        for (int i = 0; i < 11; i++) {
+            limiter.tryAcquire("client" + i);
+        }
+        // 비교 및 검증
+        assertEquals(9, limiter.size());
+    }
+
+    @Test
+    @DisplayName("peek 은 토큰을 쓰지 않음")
+    void peekDoesNotConsume() {
+        // 입력 데이터 준비
+        AtomicLong clock = new AtomicLong(1);
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 100, clock::get);
+        // 실제 데이터
+        long first = limiter.peek("user1");
+        long second = limiter.peek("user1");
+        // 비교 및 검증
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertEquals(0, limiter.tryAcquire("user1"));
+        assertTrue(limiter.peek("user1") > 0);
+    }
+}
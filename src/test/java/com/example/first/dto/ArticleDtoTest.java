@@ -0,0 +1,52 @@
+package com.example.first.dto;
+
+import com.example.first.entity.Article;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ArticleDtoTest {
+
+    @Test
+    @DisplayName("본문이 미리보기 길이와 같으면 잘리지 않았으므로 ... 을 붙이지 않음")
+    void exactPreviewLengthIsNotTruncated() {
+        // 입력 데이터 준비
+        String content = "가".repeat(Article.PREVIEW_LENGTH);
+        // 실제 데이터
+        String preview = summary(content).getContentPreview();
+        // 비교 및 검증
+        assertEquals(content, preview);
+    }
+
+    @Test
+    @DisplayName("서로게이트 쌍 때문에 99자로 잘린 미리보기에도 ... 을 붙임")
+    void surrogateShortenedPreviewIsTruncated() {
+        // 입력 데이터 준비
+        String content = "가".repeat(Article.PREVIEW_LENGTH - 1) + "😀" + "나";
+        // 실제 데이터
+        String preview = summary(content).getContentPreview();
+        // 비교 및 검증
+        assertEquals("가".repeat(Article.PREVIEW_LENGTH - 1) + "...", preview);
+    }
+
+    @Test
+    @DisplayName("목록용 DTO 도 maxLength 에 맞춰 자름")
+    void summaryHonoursMaxLength() {
+        // 입력 데이터 준비
+        ArticleDto dto = summary("가나다라마바사");
+        // 실제 데이터
+        String shortPreview = dto.getContentPreview(3);
+        String longPreview = dto.getContentPreview(10);
+        // 비교 및 검증
+        assertEquals("가나다...", shortPreview);
+        assertEquals("가나다라마바사", longPreview);
+    }
+
+    // 목록 조회처럼 본문 없이 저장된 미리보기만 가진 DTO
+    private static ArticleDto summary(String content) {
+        Article article = new Article("제목", content, null);
+        return new ArticleDto(1L, "제목", null, 1L, "user1", "작성자",
+                null, null, 0L, 0L, article.getPreview(), article.isPreviewTruncated(), false);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.first.entity;
+
+import com.example.first.dto.CommentDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommentTest {
+
+    private final Article article = article();
+
+    @Test
+    @DisplayName("답글 경로는 부모 경로 뒤에 자신의 id 를 붙이고 표시 순서대로 정렬됨")
+    void replyPathFollowsParent() {
+        // 입력 데이터 준비
+        Comment root = saved(Comment.create(dto(), article), 3L);
+        Comment reply = saved(Comment.create(dto(), article, root), 17L);
+        Comment nextRoot = saved(Comment.create(dto(), article), 4L);
+        // 비교 및 검증
+        assertEquals("0000000003", root.getPath());
+        assertEquals("00000000030000000017", reply.getPath());
+        assertEquals(1, reply.getDepth());
+        assertEquals(3L, reply.getParentId());
+        assertTrue(root.getPath().compareTo(reply.getPath()) < 0 && reply.getPath().compareTo(nextRoot.getPath()) < 0,
+                "부모 → 답글 → 다음 최상위 댓글 순서");
+    }
+
+    @Test
+    @DisplayName("최대 깊이의 댓글에 단 답글은 같은 깊이의 형제가 됨")
+    void replyBeyondMaxDepthBecomesSibling() {
+        // 입력 데이터 준비
+        Comment parent = saved(Comment.create(dto(), article), 1L);
+        for (long id = 2; id <= Comment.MAX_DEPTH + 1; id++) {
+            parent = saved(Comment.create(dto(), article, parent), id);
+        }
+        // 실제 데이터
+        Comment reply = saved(Comment.create(dto(), article, parent), 100L);
+        // 비교 및 검증
+        assertEquals(Comment.MAX_DEPTH, reply.getDepth());
+        assertEquals(parent.getParentId(), reply.getParentId());
+        assertEquals(parent.getPath().length(), reply.getPath().length());
+    }
+
+    private static Article article() {
+        Article article = new Article("제목", "내용", null);
+        article.setId(1L);
+        return article;
+    }
+
+    private CommentDto dto() {
+        return new CommentDto(null, 1L, "닉네임", "본문");
+    }
+
+    // 저장으로 id 가 정해진 상황 재현
+    private static Comment saved(Comment comment, Long id) {
+        comment.setId(id);
+        comment.assignPath();
+        return comment;
+    }
+}
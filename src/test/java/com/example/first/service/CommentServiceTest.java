@@ -0,0 +1,73 @@
+package com.example.first.service;
+
+import com.example.first.dto.CommentDto;
+import com.example.first.dto.CommentThreadDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class CommentServiceTest {
+    // 댓글이 없는 게시글
+    private static final Long ARTICLE_ID = 1L;
+
+    @Autowired
+    CommentService commentService;
+
+    @Test
+    @Transactional
+    @DisplayName("삭제된 최상위 댓글을 건너뛰며 after 이후로 페이지를 이어감")
+    void threadsPageAcrossDeletedRoot() {
+        // 입력 데이터 준비
+        Long first = write(null, "첫째");
+        Long second = write(null, "둘째");
+        Long orphan = write(second, "둘째의 답글");
+        Long third = write(null, "셋째");
+        commentService.delete(second);
+        // 실제 데이터
+        CommentThreadDto page1 = commentService.threads(ARTICLE_ID, null, 1, 10);
+        CommentThreadDto page2 = commentService.threads(ARTICLE_ID, page1.getNextAfter(), 1, 10);
+        // 비교 및 검증
+        assertEquals(List.of(first), ids(page1), "첫 페이지는 첫째 댓글만");
+        assertEquals(first, page1.getNextAfter(), "다음 요청은 첫째 댓글 이후부터");
+        assertTrue(page1.isHasMore(), "남은 최상위 댓글이 있음");
+        assertEquals(List.of(orphan, third), ids(page2), "삭제된 둘째의 답글과 셋째 댓글");
+        assertEquals(third, page2.getNextAfter(), "마지막 최상위 댓글은 셋째");
+        assertFalse(page2.isHasMore(), "마지막 페이지");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("maxDepth 보다 깊은 답글은 제외")
+    void threadsLimitDepth() {
+        // 입력 데이터 준비
+        Long root = write(null, "최상위");
+        Long reply = write(root, "답글");
+        write(reply, "답글의 답글");
+        // 실제 데이터
+        CommentThreadDto page = commentService.threads(ARTICLE_ID, null, 10, 1);
+        // 비교 및 검증
+        assertEquals(List.of(root, reply), ids(page), "깊이 1 까지만 포함");
+        assertFalse(page.isHasMore(), "최상위 댓글은 하나");
+    }
+
+    private Long write(Long parentId, String body) {
+        CommentDto dto = new CommentDto(null, ARTICLE_ID, "tester", body, parentId, 0);
+        return commentService.create(ARTICLE_ID, dto).getId();
+    }
+
+    private static List<Long> ids(CommentThreadDto page) {
+        return page.getComments().stream()
+                .map(CommentDto::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.first.service;
+
+import com.example.first.dto.ArticleDto;
+import com.example.first.dto.FeedPageDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeedServiceTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("분배된 게시글과 직접 조회한 게시글을 작성일 내림차순으로 병합")
+    void mergeOrder() {
+        // 입력 데이터 준비
+        List<ArticleDto> pushed = List.of(article(5L, T.plusMinutes(3)), article(3L, T.plusMinutes(1)));
+        List<ArticleDto> pulled = List.of(article(4L, T.plusMinutes(2)), article(2L, T), article(1L, T));
+        // 실제 데이터
+        FeedPageDto page = FeedService.merge(pushed, null, pulled, 10);
+        // 비교 및 검증
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), ids(page));
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("양쪽에 모두 있는 게시글은 한 번만")
+    void mergeDeduplicates() {
+        // 입력 데이터 준비
+        List<ArticleDto> pushed = List.of(article(4L, T.plusMinutes(2)), article(2L, T));
+        List<ArticleDto> pulled = List.of(article(4L, T.plusMinutes(2)), article(3L, T.plusMinutes(1)));
+        // 실제 데이터
+        FeedPageDto page = FeedService.merge(pushed, null, pulled, 10);
+        // 비교 및 검증
+        assertEquals(List.of(4L, 3L, 2L), ids(page));
+    }
+
+    @Test
+    @DisplayName("남는 게시글이 있으면 마지막 게시글을 다음 페이지 cursor 로")
+    void mergeNextCursor() {
+        // 입력 데이터 준비
+        List<ArticleDto> pushed = List.of(article(3L, T.plusMinutes(1)));
+        List<ArticleDto> pulled = List.of(article(2L, T), article(1L, T));
+        // 실제 데이터
+        FeedPageDto page = FeedService.merge(pushed, null, pulled, 2);
+        // 비교 및 검증
+        assertEquals(List.of(3L, 2L), ids(page));
+        assertTrue(page.isHasMore());
+        assertEquals(T + "_2", page.getNextCursor());
+        assertEquals(new FeedService.Cursor(T, 2L), FeedService.Cursor.parse(page.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("타임라인에 삭제된 게시글만 남았어도 마지막으로 읽은 위치부터 다음 페이지")
+    void mergeContinuesAfterDeletedEntries() {
+        // 입력 데이터 준비
+        List<ArticleDto> pushed = List.of(article(3L, T.plusMinutes(1)));
+        FeedService.Cursor pushedEnd = new FeedService.Cursor(T, 2L);
+        // 실제 데이터
+        FeedPageDto page = FeedService.merge(pushed, pushedEnd, List.of(), 2);
+        // 비교 및 검증
+        assertEquals(List.of(3L), ids(page));
+        assertTrue(page.isHasMore());
+        assertEquals(pushedEnd.format(), page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 타임라인 항목보다 오래된 직접 조회 게시글은 다음 페이지로 (건너뛰지 않음)")
+    void mergeStopsAtUnreadTimeline() {
+        // 입력 데이터 준비 (타임라인 E10, E9(삭제), E8(삭제), E7 / 직접 조회 P5, P4, 페이지 크기 2)
+        // 첫 페이지는 타임라인 3건(E10, E9, E8)만 읽고 삭제된 E9, E8 은 빠짐
+        List<ArticleDto> pulled = List.of(article(5L, T.plusMinutes(5)), article(4L, T.plusMinutes(4)));
+        List<ArticleDto> firstPushed = List.of(article(10L, T.plusMinutes(10)));
+        FeedService.Cursor firstEnd = new FeedService.Cursor(T.plusMinutes(8), 8L);
+        // 실제 데이터
+        FeedPageDto first = FeedService.merge(firstPushed, firstEnd, pulled, 2);
+        FeedPageDto second = FeedService.merge(List.of(article(7L, T.plusMinutes(7))), null, pulled, 2);
+        // 비교 및 검증
+        assertEquals(List.of(10L), ids(first));
+        assertTrue(first.isHasMore());
+        assertEquals(firstEnd, FeedService.Cursor.parse(first.getNextCursor()));
+        assertEquals(List.of(7L, 5L), ids(second));
+    }
+
+    @Test
+    @DisplayName("잘못된 cursor 는 첫 페이지")
+    void parseInvalidCursor() {
+        // 실제 데이터
+        FeedService.Cursor empty = FeedService.Cursor.parse(null);
+        FeedService.Cursor badTime = FeedService.Cursor.parse("abc_1");
+        FeedService.Cursor badId = FeedService.Cursor.parse("2025-01-01T12:00_x");
+        // 비교 및 검증
+        assertEquals(FeedService.Cursor.FIRST, empty);
+        assertEquals(FeedService.Cursor.FIRST, badTime);
+        assertEquals(FeedService.Cursor.FIRST, badId);
+    }
+
+    private static ArticleDto article(Long id, LocalDateTime createdAt) {
+        return new ArticleDto(id, "제목" + id, null, 1L, "user1", "사용자1",
+                createdAt, null, 0L, 0L, "미리보기", false, false);
+    }
+
+    private static List<Long> ids(FeedPageDto page) {
+        return page.getArticles().stream().map(ArticleDto::getId).toList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.first.service;
+
+import com.example.first.entity.CacheInvalidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NearCacheCoherenceTest {
+
+    private final InJvmInvalidationTransport transportA = new InJvmInvalidationTransport();
+    private final InJvmInvalidationTransport transportB = new InJvmInvalidationTransport();
+    private final List<String> invalidatedA = new ArrayList<>();
+    private final List<String> invalidatedB = new ArrayList<>();
+
+    // 같은 JVM 의 두 서버 (트랜잭션 밖에서 발행하면 바로 전달)
+    private final NearCacheCoherence nodeA = node(transportA, "a", invalidatedA);
+    private final NearCacheCoherence nodeB = node(transportB, "b", invalidatedB);
+
+    @AfterEach
+    void tearDown() {
+        transportA.close();
+        transportB.close();
+    }
+
+    @Test
+    @DisplayName("다른 서버의 변경만 로컬 캐시에서 제거")
+    void invalidatesOtherNodes() {
+        // 실제 데이터
+        nodeA.publish(CacheInvalidation.EntityType.ARTICLE, 1L);
+        nodeB.publish(CacheInvalidation.EntityType.USER, 7L);
+        // 비교 및 검증
+        assertEquals(List.of("USER:7"), invalidatedA);
+        assertEquals(List.of("ARTICLE:1"), invalidatedB);
+    }
+
+    @Test
+    @DisplayName("같거나 오래된 버전의 메시지는 버림")
+    void rejectsOutOfOrderMessages() {
+        // 입력 데이터 준비
+        nodeB.receive(List.of(new InvalidationTransport.Message(CacheInvalidation.EntityType.ARTICLE, 1L, 10, "a")));
+        // 실제 데이터
+        nodeB.receive(List.of(
+                new InvalidationTransport.Message(CacheInvalidation.EntityType.ARTICLE, 1L, 9, "a"),
+                new InvalidationTransport.Message(CacheInvalidation.EntityType.ARTICLE, 1L, 10, "a"),
+                new InvalidationTransport.Message(CacheInvalidation.EntityType.ARTICLE, 2L, 9, "a")));
+        // 비교 및 검증
+        assertEquals(List.of("ARTICLE:1", "ARTICLE:2"), invalidatedB);
+        assertTrue(invalidatedA.isEmpty());
+    }
+
+    private static NearCacheCoherence node(InJvmInvalidationTransport transport, String nodeId, List<String> invalidated) {
+        NearCacheListener listener = (type, id) -> invalidated.add(type + ":" + id);
+        return new NearCacheCoherence(transport, List.of(listener), new SimpleMeterRegistry(), nodeId, 100);
+    }
+}
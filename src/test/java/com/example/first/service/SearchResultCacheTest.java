@@ -0,0 +1,102 @@
+package com.example.first.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchResultCacheTest {
+
+    @Test
+    @DisplayName("변경된 게시글과 관련된 검색어만 제거")
+    void evictOnlyMatchingKeywords() {
+        // 입력 데이터 준비
+        SearchResultCache cache = new SearchResultCache(new SimpleMeterRegistry(), 100, 100, 300, 5000);
+        cache.put(SearchResultCache.normalize("spring"), SearchResultCache.Type.TITLE, List.of(1L, 2L), cache.generation());
+        cache.put(SearchResultCache.normalize("jpa"), SearchResultCache.Type.TITLE, List.of(3L), cache.generation());
+        cache.put(SearchResultCache.normalize("jpa"), SearchResultCache.Type.CONTENT, List.of(4L), cache.generation());
+        // 실제 데이터
+        cache.evictMatching(99L, "Spring 입문", "Spring Boot 입문", "JPA 본문", "작성자");
+        // 비교 및 검증
+        assertNull(cache.get(SearchResultCache.normalize("spring"), SearchResultCache.Type.TITLE));
+        assertNotNull(cache.get(SearchResultCache.normalize("jpa"), SearchResultCache.Type.TITLE));
+        assertNull(cache.get(SearchResultCache.normalize("jpa"), SearchResultCache.Type.CONTENT));
+    }
+
+    @Test
+    @DisplayName("변경 전 본문 없이도 결과에 있던 게시글이 바뀌면 제거")
+    void evictEntriesContainingChangedArticle() {
+        // 입력 데이터 준비
+        SearchResultCache cache = new SearchResultCache(new SimpleMeterRegistry(), 100, 100, 300, 5000);
+        cache.put(SearchResultCache.normalize("jpa"), SearchResultCache.Type.CONTENT, List.of(1L, 2L), cache.generation());
+        cache.put(SearchResultCache.normalize("redis"), SearchResultCache.Type.CONTENT, List.of(3L), cache.generation());
+        // 실제 데이터 (1번 게시글 본문에서 JPA 를 지움)
+        cache.evictMatching(1L, "제목", "제목", "스프링 본문", "작성자");
+        // 비교 및 검증
+        assertNull(cache.get(SearchResultCache.normalize("jpa"), SearchResultCache.Type.CONTENT));
+        assertNotNull(cache.get(SearchResultCache.normalize("redis"), SearchResultCache.Type.CONTENT));
+    }
+
+    @Test
+    @DisplayName("통합 검색 항목은 작성자 닉네임이 검색어를 포함해도 제거")
+    void evictAllByAuthorNickname() {
+        // 입력 데이터 준비
+        SearchResultCache cache = new SearchResultCache(new SimpleMeterRegistry(), 100, 100, 300, 5000);
+        cache.put(SearchResultCache.normalize("kim"), SearchResultCache.Type.ALL, List.of(1L), cache.generation());
+        cache.put(SearchResultCache.normalize("kim"), SearchResultCache.Type.TITLE, List.of(2L), cache.generation());
+        // 실제 데이터
+        cache.evictMatching(99L, null, "새 글", "내용", "Kim개발");
+        // 비교 및 검증
+        assertNull(cache.get(SearchResultCache.normalize("kim"), SearchResultCache.Type.ALL));
+        assertNotNull(cache.get(SearchResultCache.normalize("kim"), SearchResultCache.Type.TITLE));
+    }
+
+    @Test
+    @DisplayName("조회 중에 변경이 커밋되면 결과를 저장하지 않음")
+    void rejectStalePut() {
+        // 입력 데이터 준비
+        SearchResultCache cache = new SearchResultCache(new SimpleMeterRegistry(), 100, 100, 300, 5000);
+        long generation = cache.generation();
+        // 실제 데이터
+        cache.evictMatching(99L, null, "새 글", "내용", "작성자");
+        cache.put(SearchResultCache.normalize("새"), SearchResultCache.Type.TITLE, List.of(1L), generation);
+        // 비교 및 검증
+        assertNull(cache.get(SearchResultCache.normalize("새"), SearchResultCache.Type.TITLE));
+    }
+
+    @Test
+    @DisplayName("무효화 직후에는 프라이머리 조회 구간")
+    void recentlyInvalidated() {
+        // 입력 데이터 준비
+        SearchResultCache cache = new SearchResultCache(new SimpleMeterRegistry(), 100, 100, 300, 5000);
+        boolean before = cache.recentlyInvalidated();
+        // 실제 데이터
+        cache.evictMatching(99L, null, "새 글", "내용", "작성자");
+        // 비교 및 검증
+        assertFalse(before);
+        assertTrue(cache.recentlyInvalidated());
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 사용하지 않은 항목 제거")
+    void lruEviction() {
+        // 입력 데이터 준비
+        SearchResultCache cache = new SearchResultCache(new SimpleMeterRegistry(), 2, 100, 300, 5000);
+        cache.put(SearchResultCache.normalize("a"), SearchResultCache.Type.TITLE, List.of(1L), cache.generation());
+        cache.put(SearchResultCache.normalize("b"), SearchResultCache.Type.TITLE, List.of(2L), cache.generation());
+        cache.get(SearchResultCache.normalize("a"), SearchResultCache.Type.TITLE);
+        // 실제 데이터
+        cache.put(SearchResultCache.normalize("c"), SearchResultCache.Type.TITLE, List.of(3L), cache.generation());
+        // 비교 및 검증
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(SearchResultCache.normalize("a"), SearchResultCache.Type.TITLE));
+        assertNull(cache.get(SearchResultCache.normalize("b"), SearchResultCache.Type.TITLE));
+    }
+}
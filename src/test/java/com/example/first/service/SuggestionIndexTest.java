@@ -0,0 +1,86 @@
+package com.example.first.service;
+
+import com.example.first.dto.SuggestionDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestionIndexTest {
+
+    @Test
+    @DisplayName("제목의 첫 글자와 중간 단어 모두로 추천")
+    void suggestByWordPrefix() {
+        // 입력 데이터 준비
+        SuggestionIndex index = new SuggestionIndex(null, null, 1000, 10000);
+        index.addTitle("Spring Boot 학습 후기");
+        index.addTitle("스프링 시큐리티 정리");
+        index.addAuthor("boot러버");
+        // 실제 데이터
+        List<String> spring = texts(index.suggest("spr", 10));
+        List<String> boot = texts(index.suggest("BOOT", 10));
+        // 비교 및 검증
+        assertEquals(List.of("Spring Boot 학습 후기"), spring);
+        assertTrue(boot.contains("Spring Boot 학습 후기"));
+        assertTrue(boot.contains("boot러버"));
+        assertEquals(List.of("스프링 시큐리티 정리"), texts(index.suggest("시큐", 10)));
+    }
+
+    @Test
+    @DisplayName("같은 제목은 모든 게시글이 삭제되어야 추천에서 사라짐")
+    void removeByRefCount() {
+        // 입력 데이터 준비
+        SuggestionIndex index = new SuggestionIndex(null, null, 1000, 10000);
+        index.addTitle("가나다");
+        index.addTitle("가나다");
+        // 실제 데이터
+        index.removeTitle("가나다");
+        List<String> afterFirst = texts(index.suggest("가", 10));
+        index.removeTitle("가나다");
+        List<String> afterSecond = texts(index.suggest("가", 10));
+        // 비교 및 검증
+        assertEquals(List.of("가나다"), afterFirst);
+        assertTrue(afterSecond.isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("항목 수 상한을 넘으면 더 이상 색인하지 않음")
+    void boundedSize() {
+        // 입력 데이터 준비
+        SuggestionIndex index = new SuggestionIndex(null, null, 3, 10000);
+        // 실제 데이터
+        for (int i = 0; i < 10; i++) {
+            index.addTitle("title" + i);
+        }
+        // 비교 및 검증
+        assertEquals(3, index.size());
+        assertEquals(2, index.suggest("title", 2).size());
+    }
+
+    @Test
+    @DisplayName("노드 수 상한을 넘기는 항목은 색인하지 않고, 삭제하면 노드도 반환")
+    void boundedNodes() {
+        // 입력 데이터 준비
+        SuggestionIndex index = new SuggestionIndex(null, null, 1000, 10);
+        // 실제 데이터
+        index.addTitle("abcdef");
+        index.addTitle("abcxyz");
+        index.addTitle("zzzzzz");
+        int nodesAfterAdd = index.nodeCount();
+        index.removeTitle("abcxyz");
+        // 비교 및 검증
+        assertEquals(9, nodesAfterAdd);
+        assertTrue(index.suggest("z", 10).isEmpty());
+        assertEquals(List.of("abcdef"), texts(index.suggest("abc", 10)));
+        assertEquals(6, index.nodeCount());
+    }
+
+    private List<String> texts(List<SuggestionDto> suggestions) {
+        return suggestions.stream().map(SuggestionDto::getText).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.first.service;
+
+import com.example.first.dto.ActivityDto;
+import com.example.first.dto.ActivityPageDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserActivityServiceTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("두 목록을 작성일 내림차순으로 병합하고 같은 시각이면 게시글 먼저")
+    void mergeOrder() {
+        // 입력 데이터 준비
+        List<ActivityDto> articles = List.of(article(3L, T.plusMinutes(2)), article(2L, T));
+        List<ActivityDto> comments = List.of(comment(9L, T.plusMinutes(1)), comment(8L, T), comment(7L, T.minusMinutes(1)));
+        // 실제 데이터
+        ActivityPageDto page = UserActivityService.merge(articles, comments, 10);
+        // 비교 및 검증
+        assertEquals(List.of("ARTICLE-3", "COMMENT-9", "ARTICLE-2", "COMMENT-8", "COMMENT-7"), keys(page));
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("남는 항목이 있으면 마지막 항목을 다음 페이지 cursor 로")
+    void mergeNextCursor() {
+        // 입력 데이터 준비
+        List<ActivityDto> articles = List.of(article(2L, T));
+        List<ActivityDto> comments = List.of(comment(8L, T), comment(7L, T));
+        // 실제 데이터
+        ActivityPageDto page = UserActivityService.merge(articles, comments, 2);
+        // 비교 및 검증
+        assertEquals(List.of("ARTICLE-2", "COMMENT-8"), keys(page));
+        assertTrue(page.isHasMore());
+        assertEquals(T + "_COMMENT_8", page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("cursor 문자열 해석 (잘못된 값은 첫 페이지)")
+    void parseCursor() {
+        // 입력 데이터 준비
+        String text = T + "_ARTICLE_5";
+        // 실제 데이터
+        UserActivityService.Cursor cursor = UserActivityService.Cursor.parse(text);
+        // 비교 및 검증
+        assertEquals(new UserActivityService.Cursor(T, ActivityDto.Type.ARTICLE, 5L), cursor);
+        assertEquals(cursor, UserActivityService.Cursor.parse(cursor.format()));
+        assertEquals(UserActivityService.Cursor.FIRST, UserActivityService.Cursor.parse(null));
+        assertEquals(UserActivityService.Cursor.FIRST, UserActivityService.Cursor.parse("2025-01-01_POST_1"));
+        assertEquals(UserActivityService.Cursor.FIRST, UserActivityService.Cursor.parse("abc"));
+    }
+
+    private static ActivityDto article(Long id, LocalDateTime at) {
+        return new ActivityDto(ActivityDto.Type.ARTICLE, id, id, "제목" + id, "미리보기", at);
+    }
+
+    private static ActivityDto comment(Long id, LocalDateTime at) {
+        return new ActivityDto(ActivityDto.Type.COMMENT, id, 1L, "제목", "댓글" + id, at);
+    }
+
+    private static List<String> keys(ActivityPageDto page) {
+        return page.getItems().stream().map(item -> item.getType() + "-" + item.getId()).toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.first.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserAvailabilityFilterTest {
+
+    @Test
+    @DisplayName("등록된 값은 항상 존재 가능으로 판별")
+    void noFalseNegative() {
+        // 입력 데이터 준비
+        UserAvailabilityFilter.BloomFilter filter = new UserAvailabilityFilter.BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("user" + i);
+        }
+        // 비교 및 검증
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("user" + i), "user" + i + "는 존재해야 함");
+        }
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 값의 오탐률은 설정값 근처")
+    void falsePositiveRate() {
+        // 입력 데이터 준비
+        UserAvailabilityFilter.BloomFilter filter = new UserAvailabilityFilter.BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("user" + i);
+        }
+        // 실제 데이터
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain("other" + i)) falsePositives++;
+        }
+        // 비교 및 검증
+        assertTrue(falsePositives < 300, "오탐 수: " + falsePositives);
+        assertFalse(filter.mightContain(null));
+    }
+}